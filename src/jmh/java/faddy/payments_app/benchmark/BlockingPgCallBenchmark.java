@@ -0,0 +1,67 @@
+package faddy.payments_app.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * 플랫폼 스레드 풀과 가상 스레드의 처리량 / p99 지연 비교
+ *
+ * <p>요청 1건 = 워커 스레드에서 PG 호출(Call.execute)처럼 pgLatencyMillis 동안 블로킹.
+ * platform 은 Tomcat 기본 max-threads(200)와 같은 고정 풀, virtual 은 요청마다 가상 스레드를 사용한다.
+ * 동시 클라이언트 400 으로 풀 크기를 넘는 피크 상황을 재현한다.
+ *
+ * <p>virtual 모드는 JDK 21 이 필요하다 : {@code ./gradlew jmh -PvirtualThreads}
+ * (SampleTime 결과의 p0.99 가 p99 지연)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class BlockingPgCallBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"50"})
+    public long pgLatencyMillis;
+
+    private ExecutorService workers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workers = "virtual".equals(mode)
+            ? new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new VirtualThreadTaskExecutor("bench-").getVirtualThreadFactory())
+            : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Benchmark
+    public Object handleRequest() throws Exception {
+        return workers.submit(() -> {
+            Thread.sleep(pgLatencyMillis);
+            return "success";
+        }).get();
+    }
+}
@@ -0,0 +1,111 @@
+package faddy.payments_app.benchmark;
+
+import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.representation.request.order.Orderer;
+import faddy.payments_app.representation.request.order.PurchaseOrder;
+import faddy.payments_app.representation.request.order.PurchaseOrderItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * 주문 생성(주문 + 주문 상품 cascade INSERT) 처리량 (결과 단위 orders/s)
+ *
+ * <p>batchSize=1 은 batch 없이 상품마다 INSERT 왕복 (기존 IDENTITY 와 같은 왕복 수), 50 은 application.yml 설정.
+ * 기본은 H2(MySQL 모드) 인메모리 DB 라 네트워크 왕복 비용이 없으므로 실제 차이는 MySQL 로 측정한다.
+ * {@code -Dbench.jdbcUrl=jdbc:mysql://localhost:13306/faddy_bench?rewriteBatchedStatements=true -Dbench.user=faddy -Dbench.password=testlabs}
+ * (hbm2ddl=create 로 테이블을 다시 만드므로 별도 스키마 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderCreateBenchmark {
+
+    private static final String DEFAULT_JDBC_URL = "jdbc:h2:mem:orders;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Param({"1", "10", "30", "100"})
+    public int itemCount;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private SingleConnectionDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private PurchaseOrder purchaseOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            System.getProperty("bench.jdbcUrl", DEFAULT_JDBC_URL),
+            System.getProperty("bench.user", "sa"),
+            System.getProperty("bench.password", ""),
+            true);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("faddy.payments_app.domain.common", "faddy.payments_app.domain.order");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+            "hibernate.hbm2ddl.auto", "create",
+            "hibernate.jdbc.batch_size", batchSize,
+            "hibernate.order_inserts", true));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        List<PurchaseOrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 1; i <= itemCount; i++) {
+            items.add(new PurchaseOrderItem(i, UUID.randomUUID(), "bench item " + i, 10_000, 1, 1));
+        }
+        purchaseOrder = new PurchaseOrder(new Orderer("bench", "010-0000-0000"), items);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.createQuery("delete from OrderItem").executeUpdate();
+            entityManager.createQuery("delete from Order").executeUpdate();
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public Order createOrder() throws Exception {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Order order = purchaseOrder.toEntity();
+            entityManager.persist(order);
+            entityManager.getTransaction().commit();
+            return order;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package faddy.payments_app.benchmark;
+
+import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.representation.request.order.Orderer;
+import faddy.payments_app.representation.request.order.PurchaseOrder;
+import faddy.payments_app.representation.request.order.PurchaseOrderItem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 주문 도메인 hot path (주문 생성 요청 1건 기준 처리량 / 할당량)
+ *
+ * <p>DB 없이 도메인 로직만 측정한다. itemCount 는 주문 1건의 상품 수.
+ * 할당량은 jmh 태스크의 gc 프로파일러 결과(gc.alloc.rate.norm)로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int itemCount;
+
+    private PurchaseOrder purchaseOrder;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<PurchaseOrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 1; i <= itemCount; i++) {
+            items.add(new PurchaseOrderItem(i, UUID.randomUUID(), "젠틀 몬스터 뿔테 안경 " + i, 20_000, 1, 1));
+        }
+        purchaseOrder = new PurchaseOrder(new Orderer("안광현", "010-0000-0000"), items);
+        order = purchaseOrder.toEntity();
+    }
+
+    @Benchmark
+    public Order purchaseOrderToEntity() throws Exception {
+        return purchaseOrder.toEntity();
+    }
+
+    @Benchmark
+    public int calculateTotalAmount() {
+        order.calculateTotalAmount();
+        return order.getTotalPrice();
+    }
+
+    @Benchmark
+    public boolean verifyNoDuplicateOrderItemId() {
+        return order.verifyNoDuplicateOrderItemId();
+    }
+}
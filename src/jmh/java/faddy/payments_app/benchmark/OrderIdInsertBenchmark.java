@@ -0,0 +1,97 @@
+package faddy.payments_app.benchmark;
+
+import faddy.payments_app.domain.common.id.UuidV7;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * BINARY(16) PK 테이블 INSERT 처리량 : 랜덤 UUID(v4) vs 시간 순서 UUID(v7) (결과 단위 rows/s)
+ *
+ * <p>prefillRows 만큼 미리 채운 큰 테이블에 BATCH 건씩 INSERT 한다.
+ * v4 는 클러스터드 인덱스 전체에 흩어져 들어가고, v7 은 인덱스 끝에만 추가된다.
+ * 버퍼 풀보다 큰 테이블에서 차이가 커지므로 MySQL 로 측정한다.
+ * {@code -Dbench.jdbcUrl=jdbc:mysql://localhost:13306/faddy_bench?rewriteBatchedStatements=true -Dbench.user=faddy -Dbench.password=testlabs}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderIdInsertBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final String DEFAULT_JDBC_URL = "jdbc:h2:mem:order_id;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final String INSERT_SQL = "INSERT INTO bench_purchase_order (order_id, name) VALUES (?, ?)";
+
+    @Param({"v4", "v7"})
+    public String idType;
+
+    @Param({"1000000"})
+    public int prefillRows;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private Supplier<UUID> idGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            System.getProperty("bench.jdbcUrl", DEFAULT_JDBC_URL),
+            System.getProperty("bench.user", "sa"),
+            System.getProperty("bench.password", ""),
+            true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        idGenerator = "v7".equals(idType) ? UuidV7::next : UUID::randomUUID;
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_purchase_order");
+        jdbcTemplate.execute("CREATE TABLE bench_purchase_order ("
+            + " order_id BINARY(16) NOT NULL PRIMARY KEY, name VARCHAR(255) NOT NULL,"
+            + " reg_dt DATETIME DEFAULT NOW() NOT NULL)");
+        for (int inserted = 0; inserted < prefillRows; inserted += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_purchase_order");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] insert() {
+        return insertBatch();
+    }
+
+    private int[] insertBatch() {
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            rows.add(new Object[] {toBytes(idGenerator.get()), "bench"});
+        }
+        return jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    // Hibernate 의 UUID -> BINARY(16) 매핑과 같은 big-endian 순서
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
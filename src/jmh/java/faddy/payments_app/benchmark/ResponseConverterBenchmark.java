@@ -0,0 +1,98 @@
+package faddy.payments_app.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faddy.core.common.ApiResponse;
+import faddy.core.config.CommonMessageConverter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.StreamUtils;
+
+/**
+ * ApiResponse 응답 1건 직렬화 비용 비교 (gc 프로파일러의 gc.alloc.rate.norm 이 응답 1건당 할당 바이트)
+ *
+ * <p>string : 기존 방식 (writeValueAsString -> getBytes -> StreamUtils.copy)
+ * <br>streaming : {@link CommonMessageConverter} (응답 스트림에 바로 직렬화)
+ * <p>응답 스트림은 재사용하는 ByteArrayOutputStream 으로 대신해 컨테이너 버퍼 비용은 제외한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseConverterBenchmark {
+
+    @Param({"1", "20"})
+    public int itemCount;
+
+    private ObjectMapper objectMapper;
+    private CommonMessageConverter converter;
+    private ApiResponse<Object> response;
+    private ReusableOutputMessage outputMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        converter = new CommonMessageConverter(objectMapper);
+
+        List<OrderLine> lines = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            lines.add(new OrderLine("0192d0c8-5b7e-7a41-9d3c-" + String.format("%012d", i), "상품-" + i, i % 3 + 1, 15_000));
+        }
+        response = new ApiResponse<>("SUCCESS", lines);
+        outputMessage = new ReusableOutputMessage();
+    }
+
+    @Benchmark
+    public int string() throws IOException {
+        outputMessage.reset();
+        String responseMessage = objectMapper.writeValueAsString(response);
+        StreamUtils.copy(responseMessage.getBytes(StandardCharsets.UTF_8), outputMessage.getBody());
+        return outputMessage.body.size();
+    }
+
+    @Benchmark
+    public int streaming() throws IOException {
+        outputMessage.reset();
+        converter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.body.size();
+    }
+
+    public record OrderLine(String orderId, String productName, int quantity, int price) {
+    }
+
+    private static final class ReusableOutputMessage implements HttpOutputMessage {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers.clear();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
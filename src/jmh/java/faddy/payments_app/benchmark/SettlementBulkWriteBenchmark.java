@@ -0,0 +1,109 @@
+package faddy.payments_app.benchmark;
+
+import faddy.payments_app.domain.payment.PaymentMethod;
+import faddy.payments_app.domain.payment.PaymentStatus;
+import faddy.payments_app.domain.settlements.PaymentSettlements;
+import faddy.payments_app.infrastructure.persistence.bulk.BulkWriterProperties;
+import faddy.payments_app.infrastructure.persistence.bulk.MySqlBulkWriter;
+import faddy.payments_app.infrastructure.persistence.repository.settlements.SettlementRepositoryImpl;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 정산 bulk insert 처리량 (결과 단위 ops/s = rows/s)
+ *
+ * <p>기본은 H2(MySQL 모드) 인메모리 DB. 실제 MySQL 로 측정하려면
+ * {@code -Dbench.jdbcUrl=jdbc:mysql://localhost:13306/faddy_labs?rewriteBatchedStatements=true -Dbench.user=faddy -Dbench.password=testlabs}
+ * (loadData=true 는 MySQL + allowLoadLocalInfile=true 에서만 동작)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SettlementBulkWriteBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String DEFAULT_JDBC_URL = "jdbc:h2:mem:bulk;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    // 1 = 기존처럼 행 단위 왕복에 가까운 기준선
+    @Param({"1", "100", "1000"})
+    public int batchSize;
+
+    @Param({"false"})
+    public boolean loadData;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SettlementRepositoryImpl settlementRepository;
+    private List<PaymentSettlements> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            System.getProperty("bench.jdbcUrl", DEFAULT_JDBC_URL),
+            System.getProperty("bench.user", "sa"),
+            System.getProperty("bench.password", ""),
+            true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS payment_settlements ("
+            + " id INT AUTO_INCREMENT PRIMARY KEY,"
+            + " payment_id VARCHAR(255) NOT NULL, method VARCHAR(255) NOT NULL, settlements_status VARCHAR(255) NOT NULL,"
+            + " total_amount INT NOT NULL, pay_out_amount INT NOT NULL, canceled_amount INT NOT NULL,"
+            + " sold_date DATE NOT NULL, paid_out_date DATE NOT NULL,"
+            + " reg_dt DATETIME DEFAULT NOW() NOT NULL, upd_dt DATETIME DEFAULT NOW() NOT NULL,"
+            + " CONSTRAINT uk_payment_settlements_natural UNIQUE (payment_id, settlements_status, sold_date))");
+
+        BulkWriterProperties properties = new BulkWriterProperties();
+        properties.setBatchSize(batchSize);
+        properties.setLoadDataEnabled(loadData);
+        properties.setLoadDataThreshold(1);
+        settlementRepository = new SettlementRepositoryImpl(new MySqlBulkWriter(jdbcTemplate, properties));
+
+        Date soldDate = Date.valueOf(LocalDate.of(2024, 6, 5));
+        Date paidOutDate = Date.valueOf(LocalDate.of(2024, 6, 10));
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(PaymentSettlements.builder()
+                .paymentKey("tgen_bench_" + i)
+                .method(PaymentMethod.CARD)
+                .paymentStatus(PaymentStatus.SETTLEMENTS_REQUESTED)
+                .totalAmount(10_000)
+                .payOutAmount(9_700)
+                .canceledAmount(0)
+                .soldDate(soldDate)
+                .paidOutDate(paidOutDate)
+                .build());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE payment_settlements");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bulkInsert() {
+        settlementRepository.bulkInsert(rows);
+    }
+}
@@ -0,0 +1,101 @@
+package faddy.payments_app.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.google.gson.Gson;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.representation.request.payment.PaymentSettlement;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 정산 경로 객체 재사용 전/후 할당량 비교 (gc 프로파일러의 gc.alloc.rate.norm)
+ *
+ * <p>- settlementRequest : 조회 기간 계산. 호출마다 DateTimeFormatter / ZoneId 생성(perCall) vs 캐시 + Clock(cached)
+ * <br>- gson : BaseUtils.toJsonString. 호출마다 Gson 생성 vs 공유 인스턴스
+ * <br>- page : 정산 응답 100건 파싱. 기본 ObjectMapper vs Blackbird 모듈을 등록한 공용 ObjectMapper
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SettlementPathAllocationBenchmark {
+
+    private static final ZoneId SETTLEMENT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter SETTLEMENT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final TypeReference<List<ResponsePaymentSettlements>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final Clock settlementClock = Clock.system(SETTLEMENT_ZONE);
+    private final Gson sharedGson = new Gson();
+    private final ObjectMapper defaultMapper = new ObjectMapper();
+    private final ObjectMapper blackbirdMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+
+    private PaymentSettlement request;
+    private byte[] page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        request = PaymentSettlement.builder().startDate("2024-06-01").endDate("2024-06-03").page(1).size(5000).build();
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            json.append(i == 0 ? "" : ",")
+                .append("{\"paymentKey\":\"tgen_").append(i).append("\",\"method\":\"카드\",\"amount\":15000,")
+                .append("\"payOutAmount\":14550,\"soldDate\":\"2024-06-05\",\"paidOutDate\":\"2024-06-10\",")
+                .append("\"card\":{\"issuerCode\":\"71\",\"acquireStatus\":\"COMPLETED\",\"amount\":15000}}");
+        }
+        page = json.append("]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PaymentSettlement settlementRequestPerCall() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        String startDate = LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusDays(3).format(formatter);
+        String endDate = LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusDays(1).format(formatter);
+        return PaymentSettlement.builder().startDate(startDate).endDate(endDate).page(1).size(5000).build();
+    }
+
+    @Benchmark
+    public PaymentSettlement settlementRequestCached() {
+        LocalDate today = LocalDate.now(settlementClock);
+        String startDate = today.minusDays(3).format(SETTLEMENT_DATE_FORMAT);
+        String endDate = today.minusDays(1).format(SETTLEMENT_DATE_FORMAT);
+        return PaymentSettlement.builder().startDate(startDate).endDate(endDate).page(1).size(5000).build();
+    }
+
+    @Benchmark
+    public String gsonPerCall() {
+        return new Gson().toJson(request, PaymentSettlement.class);
+    }
+
+    @Benchmark
+    public String gsonShared() {
+        return sharedGson.toJson(request, PaymentSettlement.class);
+    }
+
+    @Benchmark
+    public List<ResponsePaymentSettlements> pageDefaultMapper() throws IOException {
+        return defaultMapper.readValue(page, PAGE_TYPE);
+    }
+
+    @Benchmark
+    public List<ResponsePaymentSettlements> pageBlackbirdMapper() throws IOException {
+        return blackbirdMapper.readValue(page, PAGE_TYPE);
+    }
+}
@@ -0,0 +1,113 @@
+package faddy.payments_app.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faddy.payments_app.domain.payment.PaymentLedger;
+import faddy.payments_app.domain.settlements.PaymentSettlements;
+import faddy.payments_app.infrastructure.out.mq.codec.SettlementRecordCodec;
+import faddy.payments_app.infrastructure.out.mq.record$.SettlementRecord;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.infrastructure.out.pg.toss.response.payment.method.Card;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 정산 1건의 변환 / 직렬화 비용 (처리량 / 할당량)
+ *
+ * <p>- 변환 : 토스 응답 -> PaymentSettlements -> PaymentLedger, 토스 응답 -> SettlementRecord (SettlementRecordCodec)
+ * <br>- Jackson : 토스 정산 응답 JSON 1건 (역)직렬화
+ * <br>- Avro : Kafka 로 발행하는 SettlementRecord 1건 바이너리 (역)직렬화 (AvroSingleObjectSerializer 의 10바이트 헤더 제외)
+ * <p>할당량은 jmh 태스크의 gc 프로파일러 결과(gc.alloc.rate.norm)로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SettlementSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SpecificDatumWriter<SettlementRecord> avroWriter = new SpecificDatumWriter<>(SettlementRecord.class);
+    private final SpecificDatumReader<SettlementRecord> avroReader = new SpecificDatumReader<>(SettlementRecord.class);
+    private final ByteArrayOutputStream avroOut = new ByteArrayOutputStream(256);
+
+    private ResponsePaymentSettlements response;
+    private PaymentSettlements settlements;
+    private byte[] json;
+    private SettlementRecord record;
+    private byte[] avro;
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        response = ResponsePaymentSettlements.builder()
+            .orderId("0192d0c8-5b7e-7a41-9d3c-000000000001")
+            .paymentKey("tgen_20240605132741Jtkz1")
+            .method("카드")
+            .totalAmount(15_000)
+            .payOutAmount(14_550)
+            .card(Card.builder().issuerCode("71").acquirerCode("71").number("12345678****000*")
+                .cardType("신용").acquireStatus("COMPLETED").approveNo("00000000").amount(15_000).build())
+            .soldDate("2024-06-05")
+            .paidOutDate("2024-06-10")
+            .build();
+        settlements = response.toEntity();
+        json = objectMapper.writeValueAsBytes(response);
+
+        record = SettlementRecordCodec.toRecord(response);
+        avro = avroSerialize();
+    }
+
+    @Benchmark
+    public PaymentSettlements responseToEntity() {
+        return response.toEntity();
+    }
+
+    @Benchmark
+    public SettlementRecord responseToRecord() {
+        return SettlementRecordCodec.toRecord(response);
+    }
+
+    @Benchmark
+    public PaymentLedger settlementsToPaymentLedger() {
+        return settlements.toPaymentLedger();
+    }
+
+    @Benchmark
+    public byte[] jacksonSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ResponsePaymentSettlements jacksonDeserialize() throws IOException {
+        return objectMapper.readValue(json, ResponsePaymentSettlements.class);
+    }
+
+    @Benchmark
+    public byte[] avroSerialize() throws IOException {
+        avroOut.reset();
+        encoder = EncoderFactory.get().binaryEncoder(avroOut, encoder);
+        avroWriter.write(record, encoder);
+        encoder.flush();
+        return avroOut.toByteArray();
+    }
+
+    @Benchmark
+    public SettlementRecord avroDeserialize() throws IOException {
+        decoder = DecoderFactory.get().binaryDecoder(avro, decoder);
+        return avroReader.read(null, decoder);
+    }
+}
@@ -0,0 +1,221 @@
+package faddy.payments_app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faddy.PaymentsAppApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 주문 -> 승인 -> 취소 -> 정산 흐름 부하 테스트
+ *
+ * <p>목표 RPS 로 시나리오(주문 생성 -> 결제 승인 -> cancelRate 확률로 전체 취소)를 시작하고,
+ * settlementIntervalSeconds 마다 정산 조회(GET /settlements)를 함께 실행한다.
+ * 시나리오는 응답을 기다리지 않고 예정 시각에 시작하며(open model), scenario 지연은 예정 시각부터 측정한다
+ * (서버가 밀려도 지연이 과소 측정되지 않도록).
+ *
+ * <p>PG 는 {@link TossPgSimulator} 가 대신한다. load.target 이 없으면 애플리케이션도 같은 프로세스에서
+ * 시뮬레이터 주소(pg.toss.base-url / pg.mock.base-url)로 기동한다 (프로필 load.profiles, 기본 dev : MySQL / Kafka 필요).
+ * 외부에 띄운 애플리케이션을 대상으로 할 때는 load.sim.port 를 고정하고 애플리케이션을 그 주소로 기동한다.
+ *
+ * <pre>
+ * ./gradlew loadTest -Dload.rps=100 -Dload.durationSeconds=60 -Dload.sim.baseLatencyMillis=50
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String target;
+    private final double cancelRate;
+    private final Duration requestTimeout;
+
+    private final StepStats scenario = new StepStats("scenario");
+    private final StepStats order = new StepStats("order");
+    private final StepStats confirm = new StepStats("confirm");
+    private final StepStats cancel = new StepStats("cancel");
+    private final StepStats settlement = new StepStats("settlement");
+
+    LoadTestRunner(String target, double cancelRate, Duration requestTimeout) {
+        this.target = target;
+        this.cancelRate = cancelRate;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rps = Integer.getInteger("load.rps", 50);
+        int durationSeconds = Integer.getInteger("load.durationSeconds", 60);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 10);
+        int maxConcurrency = Integer.getInteger("load.maxConcurrency", 1_000);
+        int settlementIntervalSeconds = Integer.getInteger("load.settlementIntervalSeconds", 10);
+        double cancelRate = SimulatorSettings.doubleProperty("load.cancelRate", 0.3);
+        Duration requestTimeout = Duration.ofSeconds(Long.getLong("load.requestTimeoutSeconds", 30));
+
+        try (TossPgSimulator simulator = new TossPgSimulator(SimulatorSettings.fromSystemProperties())) {
+            simulator.start();
+            System.out.printf("Toss PG simulator : %s%n", simulator.tossBaseUrl());
+
+            String target = System.getProperty("load.target");
+            ConfigurableApplicationContext application = null;
+            if (target == null) {
+                application = startApplication(simulator);
+                target = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            }
+
+            try {
+                if (warmupSeconds > 0) {
+                    System.out.printf("warm-up %ds ...%n", warmupSeconds);
+                    new LoadTestRunner(target, cancelRate, requestTimeout)
+                        .run(Math.max(1, rps / 2), warmupSeconds, maxConcurrency, 0);
+                }
+
+                System.out.printf("target=%s rps=%d duration=%ds%n", target, rps, durationSeconds);
+                new LoadTestRunner(target, cancelRate, requestTimeout)
+                    .run(rps, durationSeconds, maxConcurrency, settlementIntervalSeconds);
+                System.out.printf("payments approved by simulator : %d%n", simulator.approvedCount());
+            } finally {
+                if (application != null) {
+                    application.close();
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(TossPgSimulator simulator) {
+        return new SpringApplicationBuilder(PaymentsAppApplication.class)
+            .profiles(System.getProperty("load.profiles", "dev").split(","))
+            .properties(Map.of(
+                "server.port", "0",
+                "pg.toss.base-url", simulator.tossBaseUrl(),
+                "pg.mock.base-url", simulator.mockBaseUrl()))
+            .run();
+    }
+
+    void run(int rps, int durationSeconds, int maxConcurrency, int settlementIntervalSeconds) throws InterruptedException {
+        ExecutorService workers = Executors.newCachedThreadPool();
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long settlementIntervalNanos = TimeUnit.SECONDS.toNanos(settlementIntervalSeconds);
+        long total = (long) rps * durationSeconds;
+        long dropped = 0;
+
+        long startedAt = System.nanoTime();
+        long nextSettlementAt = startedAt + settlementIntervalNanos;
+        for (long i = 0; i < total; i++) {
+            long intendedStart = startedAt + i * intervalNanos;
+            LockSupport.parkNanos(intendedStart - System.nanoTime());
+
+            if (settlementIntervalNanos > 0 && intendedStart >= nextSettlementAt) {
+                nextSettlementAt += settlementIntervalNanos;
+                workers.execute(this::runSettlement);
+            }
+
+            // 동시 실행 상한을 넘으면 부하 발생기 자체가 포화된 것으로 보고 시작하지 않는다
+            if (!inFlight.tryAcquire()) {
+                dropped++;
+                continue;
+            }
+            workers.execute(() -> {
+                try {
+                    runScenario(intendedStart);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(requestTimeout.toSeconds() * 4, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        System.out.println("---------------------------------------------------------------------------------------------");
+        for (StepStats stats : List.of(scenario, order, confirm, cancel, settlement)) {
+            System.out.println(stats.report(elapsedSeconds));
+        }
+        System.out.printf("dropped (maxConcurrency reached) : %d%n", dropped);
+    }
+
+    private void runScenario(long intendedStart) {
+        try {
+            JsonNode newOrder = call(order, "POST", "/orders/new", Map.of(
+                "orderer", Map.of("name", "부하테스트", "phoneNumber", "010-0000-0000"),
+                "newlyOrderItem", List.of(Map.of(
+                    "itemIdx", 1,
+                    "productId", UUID.randomUUID().toString(),
+                    "productName", "부하 테스트 상품",
+                    "price", 15_000,
+                    "quantity", 1,
+                    "amounts", 1))));
+            String orderId = newOrder.path("data").path("orderId").asText();
+            int totalPrice = newOrder.path("data").path("totalPrice").asInt();
+            String paymentKey = "tload_" + UUID.randomUUID().toString().replace("-", "");
+
+            JsonNode confirmed = call(confirm, "POST", "/confirm", Map.of(
+                "paymentType", "NORMAL",
+                "paymentKey", paymentKey,
+                "orderId", orderId,
+                "amount", String.valueOf(totalPrice)));
+
+            if ("success".equals(confirmed.path("data").asText())
+                && ThreadLocalRandom.current().nextDouble() < cancelRate) {
+                call(cancel, "POST", "/cancel/payment", Map.of(
+                    "order_id", orderId,
+                    "cancel_reason", "부하 테스트 취소",
+                    "payment_key", paymentKey,
+                    "cancellation_amount", totalPrice));
+            }
+            scenario.recordSuccess(System.nanoTime() - intendedStart);
+        } catch (Exception e) {
+            scenario.recordFailure(System.nanoTime() - intendedStart, e.getClass().getSimpleName());
+        }
+    }
+
+    private void runSettlement() {
+        try {
+            call(settlement, "GET", "/settlements", null);
+        } catch (Exception ignored) {
+            // 결과는 settlement 통계에 기록된다
+        }
+    }
+
+    private JsonNode call(StepStats stats, String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target + path))
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json");
+        request = body == null
+            ? request.method(method, HttpRequest.BodyPublishers.noBody())
+            : request.method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException | InterruptedException e) {
+            stats.recordFailure(System.nanoTime() - started, e.getClass().getSimpleName());
+            throw e;
+        }
+
+        long elapsed = System.nanoTime() - started;
+        if (response.statusCode() / 100 != 2) {
+            stats.recordFailure(elapsed, "HTTP " + response.statusCode());
+            throw new IOException(method + " " + path + " -> " + response.statusCode());
+        }
+        stats.recordSuccess(elapsed);
+        return objectMapper.readTree(response.body());
+    }
+}
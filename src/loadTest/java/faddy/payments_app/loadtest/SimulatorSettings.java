@@ -0,0 +1,39 @@
+package faddy.payments_app.loadtest;
+
+/**
+ * PG 시뮬레이터 응답 지연 / 오류 분포
+ *
+ * <p>지연 = baseLatencyMillis + 지수분포(평균 jitterMillis), slowRate 확률로 slowMillis 추가.
+ * 오류는 rejectRate(4xx 거절), errorRate(5xx), timeoutRate(응답 없음 -> 클라이언트 read timeout) 확률로 발생한다.
+ *
+ * @param port 0 이면 임의 포트
+ */
+public record SimulatorSettings(
+    int port,
+    long baseLatencyMillis,
+    long jitterMillis,
+    double slowRate,
+    long slowMillis,
+    double rejectRate,
+    double errorRate,
+    double timeoutRate
+) {
+
+    // -Dload.sim.* 시스템 프로퍼티로 변경
+    public static SimulatorSettings fromSystemProperties() {
+        return new SimulatorSettings(
+            Integer.getInteger("load.sim.port", 0),
+            Long.getLong("load.sim.baseLatencyMillis", 30),
+            Long.getLong("load.sim.jitterMillis", 20),
+            doubleProperty("load.sim.slowRate", 0.01),
+            Long.getLong("load.sim.slowMillis", 1_500),
+            doubleProperty("load.sim.rejectRate", 0.01),
+            doubleProperty("load.sim.errorRate", 0.005),
+            doubleProperty("load.sim.timeoutRate", 0));
+    }
+
+    static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,52 @@
+package faddy.payments_app.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 단계(주문 / 승인 / 취소 / 정산)별 지연 히스토그램과 결과 집계
+ */
+final class StepStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder success = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    void recordSuccess(long elapsedNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        success.increment();
+    }
+
+    void recordFailure(long elapsedNanos, String reason) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        failures.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    String report(double elapsedSeconds) {
+        long failed = failures.values().stream().mapToLong(LongAdder::sum).sum();
+        long total = success.sum() + failed;
+        StringBuilder builder = new StringBuilder(String.format(
+            "%-12s total=%-7d ok=%-7d fail=%-6d %8.1f req/s | p50=%7.1fms p90=%7.1fms p99=%7.1fms p999=%7.1fms max=%7.1fms",
+            name, total, success.sum(), failed, total / elapsedSeconds,
+            millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+            millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+            millis(latency.getMaxValue())));
+        failures.forEach((reason, count) -> builder.append("\n    ").append(reason).append(" : ").append(count.sum()));
+        return builder.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,280 @@
+package faddy.payments_app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+
+/**
+ * 프로세스 내 토스 PG 시뮬레이터 (MockWebServer)
+ *
+ * <p>TossPaymentAPIs / MockTossPaymentAPIs 가 호출하는 엔드포인트를 흉내낸다.
+ * <br>- POST {@code /v1/payments/confirm} : 승인, 결제 건을 메모리에 저장
+ * <br>- POST {@code /v1/payments/{paymentKey}/cancel} : 전체/부분 취소
+ * <br>- GET {@code /v1/payments/orders/{orderId}} : 주문번호로 결제 조회 (승인 복구)
+ * <br>- GET {@code /v1/settlements}, {@code /settlements} : 승인된 결제의 정산 내역 (page 는 1부터, size 단위)
+ * <p>같은 Idempotency-Key 로 재요청하면 처음 응답을 그대로 돌려준다.
+ * 지연 / 오류 분포는 {@link SimulatorSettings} 를 따른다.
+ */
+public class TossPgSimulator implements AutoCloseable {
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimulatorSettings settings;
+    private final MockWebServer server = new MockWebServer();
+
+    private final Map<String, Payment> payments = new ConcurrentHashMap<>();
+    private final Map<String, String> paymentKeysByOrderId = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> approvedOrder = new ConcurrentLinkedQueue<>();
+    private final Map<String, MockResponse> idempotentResponses = new ConcurrentHashMap<>();
+
+    public TossPgSimulator(SimulatorSettings settings) {
+        this.settings = settings;
+        this.server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return handle(request);
+            }
+        });
+    }
+
+    public void start() throws IOException {
+        server.start(settings.port());
+    }
+
+    // TossApiClientConfig(pg.toss.base-url)
+    public String tossBaseUrl() {
+        return server.url("/v1/").toString();
+    }
+
+    // MockTossApiClientConfig(pg.mock.base-url)
+    public String mockBaseUrl() {
+        return server.url("/").toString();
+    }
+
+    public int approvedCount() {
+        return approvedOrder.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse handle(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        List<String> segments = url.pathSegments();
+        String method = request.getMethod();
+
+        try {
+            if ("GET".equals(method) && segments.get(segments.size() - 1).equals("settlements")) {
+                return delayed(settlements(url));
+            }
+            if ("GET".equals(method) && segments.size() == 4 && segments.get(2).equals("orders")) {
+                return delayed(paymentByOrderId(segments.get(3)));
+            }
+
+            boolean confirm = "POST".equals(method) && segments.size() == 3 && segments.get(2).equals("confirm");
+            boolean cancel = "POST".equals(method) && segments.size() == 4 && segments.get(3).equals("cancel");
+            if (!confirm && !cancel) {
+                return error(404, "NOT_FOUND", "Unknown endpoint " + method + " " + url.encodedPath());
+            }
+
+            String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+            if (idempotencyKey != null && idempotentResponses.containsKey(idempotencyKey)) {
+                return delayed(idempotentResponses.get(idempotencyKey));
+            }
+
+            MockResponse failure = injectedFailure();
+            if (failure != null) {
+                return failure;
+            }
+
+            JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+            MockResponse response = confirm ? confirm(body) : cancel(segments.get(2), body);
+            if (idempotencyKey != null) {
+                idempotentResponses.put(idempotencyKey, response);
+            }
+            return delayed(response);
+        } catch (Exception e) {
+            return error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", e.getMessage());
+        }
+    }
+
+    private MockResponse confirm(JsonNode body) throws IOException {
+        String paymentKey = body.path("paymentKey").asText();
+        String orderId = body.path("orderId").asText();
+        int amount = body.path("amount").asInt();
+
+        Payment payment = new Payment(paymentKey, orderId, amount, LocalDate.now());
+        if (payments.putIfAbsent(paymentKey, payment) != null) {
+            return error(400, "ALREADY_PROCESSED_PAYMENT", "이미 처리된 결제 입니다.");
+        }
+        paymentKeysByOrderId.put(orderId, paymentKey);
+        approvedOrder.add(paymentKey);
+
+        return json(200, approvedPayment(payment));
+    }
+
+    private MockResponse cancel(String paymentKey, JsonNode body) throws IOException {
+        Payment payment = payments.get(paymentKey);
+        if (payment == null) {
+            return error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 입니다.");
+        }
+
+        int cancelAmount = body.path("cancelAmount").asInt();
+        synchronized (payment) {
+            if (cancelAmount <= 0 || cancelAmount > payment.balanceAmount) {
+                return error(400, "NOT_CANCELABLE_AMOUNT", "취소 할 수 없는 금액 입니다.");
+            }
+            payment.balanceAmount -= cancelAmount;
+            payment.canceledAmount += cancelAmount;
+
+            ObjectNode response = approvedPayment(payment);
+            response.put("status", payment.balanceAmount == 0 ? "CANCELED" : "PARTIAL_CANCELED");
+            ArrayNode cancels = response.putArray("cancels");
+            cancels.addObject()
+                .put("transactionKey", Long.toHexString(ThreadLocalRandom.current().nextLong()))
+                .put("cancelReason", body.path("cancelReason").asText())
+                .put("cancelAmount", cancelAmount)
+                .put("cancelStatus", "DONE");
+            return json(200, response);
+        }
+    }
+
+    private MockResponse paymentByOrderId(String orderId) throws IOException {
+        String paymentKey = paymentKeysByOrderId.get(orderId);
+        if (paymentKey == null) {
+            return error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 입니다.");
+        }
+        return json(200, approvedPayment(payments.get(paymentKey)));
+    }
+
+    private MockResponse settlements(HttpUrl url) throws IOException {
+        int page = parseInt(url.queryParameter("page"), 1);
+        int size = parseInt(url.queryParameter("size"), 100);
+
+        ArrayNode body = objectMapper.createArrayNode();
+        approvedOrder.stream()
+            .skip((long) (page - 1) * size)
+            .limit(size)
+            .map(payments::get)
+            .forEach(payment -> body.addObject()
+                .put("paymentKey", payment.paymentKey)
+                .put("orderId", payment.orderId)
+                .put("method", "카드")
+                .put("amount", payment.totalAmount)
+                .put("payOutAmount", payment.totalAmount - payment.totalAmount * 3 / 100)
+                .put("soldDate", payment.approvedDate.toString())
+                .put("paidOutDate", payment.approvedDate.plusDays(3).toString())
+                .set("card", card("COMPLETED", payment.totalAmount)));
+        return json(200, body);
+    }
+
+    private ObjectNode approvedPayment(Payment payment) {
+        ObjectNode node = objectMapper.createObjectNode()
+            .put("paymentKey", payment.paymentKey)
+            .put("orderId", payment.orderId)
+            .put("orderName", "부하 테스트 주문")
+            .put("method", "카드")
+            .put("status", "DONE")
+            .put("totalAmount", payment.totalAmount)
+            .put("balanceAmount", payment.balanceAmount)
+            .put("suppliedAmount", payment.totalAmount * 10 / 11)
+            .put("vat", payment.totalAmount - payment.totalAmount * 10 / 11)
+            .put("requestedAt", OffsetDateTime.now(ZoneOffset.ofHours(9)).toString())
+            .put("approvedAt", OffsetDateTime.now(ZoneOffset.ofHours(9)).toString());
+        node.set("card", card("READY", payment.totalAmount));
+        return node;
+    }
+
+    private ObjectNode card(String acquireStatus, int amount) {
+        return objectMapper.createObjectNode()
+            .put("issuerCode", "71")
+            .put("acquirerCode", "71")
+            .put("number", "12345678****000*")
+            .put("cardType", "신용")
+            .put("approveNo", "00000000")
+            .put("acquireStatus", acquireStatus)
+            .put("amount", amount);
+    }
+
+    private MockResponse injectedFailure() {
+        double dice = ThreadLocalRandom.current().nextDouble();
+        if (dice < settings.timeoutRate()) {
+            return new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE);
+        }
+        dice -= settings.timeoutRate();
+        if (dice < settings.errorRate()) {
+            return delayed(error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "내부 시스템 처리 작업이 실패했습니다."));
+        }
+        dice -= settings.errorRate();
+        if (dice < settings.rejectRate()) {
+            return delayed(error(400, "REJECT_CARD_PAYMENT", "한도초과 혹은 잔액부족으로 결제에 실패했습니다."));
+        }
+        return null;
+    }
+
+    private MockResponse delayed(MockResponse response) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = settings.baseLatencyMillis()
+            + (long) (-settings.jitterMillis() * Math.log(1 - random.nextDouble()));
+        if (random.nextDouble() < settings.slowRate()) {
+            latency += settings.slowMillis();
+        }
+        return response.clone().setHeadersDelay(latency, TimeUnit.MILLISECONDS);
+    }
+
+    private MockResponse json(int status, JsonNode body) throws IOException {
+        return new MockResponse()
+            .setResponseCode(status)
+            .setHeader("Content-Type", "application/json")
+            .setBody(objectMapper.writeValueAsString(body));
+    }
+
+    private MockResponse error(int status, String code, String message) {
+        ObjectNode body = objectMapper.createObjectNode().put("code", code).put("message", message);
+        return new MockResponse()
+            .setResponseCode(status)
+            .setHeader("Content-Type", "application/json")
+            .setBody(body.toString());
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static final class Payment {
+        private final String paymentKey;
+        private final String orderId;
+        private final int totalAmount;
+        private final LocalDate approvedDate;
+        private int balanceAmount;
+        private int canceledAmount;
+
+        private Payment(String paymentKey, String orderId, int totalAmount, LocalDate approvedDate) {
+            this.paymentKey = paymentKey;
+            this.orderId = orderId;
+            this.totalAmount = totalAmount;
+            this.approvedDate = approvedDate;
+            this.balanceAmount = totalAmount;
+        }
+    }
+}
@@ -4,7 +4,14 @@ import com.google.gson.Gson;
 
 public interface BaseUtils {
     default String toJsonString() {
-        Gson gson = new Gson();
-        return gson.toJson(this, this.getClass());
+        return GsonHolder.GSON.toJson(this, this.getClass());
     }
-}
\ No newline at end of file
+}
+
+// Gson 은 thread-safe 하므로 호출마다 만들지 않고 공유한다
+final class GsonHolder {
+    static final Gson GSON = new Gson();
+
+    private GsonHolder() {
+    }
+}
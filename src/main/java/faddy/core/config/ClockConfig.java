@@ -0,0 +1,19 @@
+package faddy.core.config;
+
+import java.time.Clock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 현재 시각 조회용 Clock
+ *
+ * <p>LocalDateTime.now() 대신 주입받은 Clock 으로 시각을 구해 테스트에서 고정 시각으로 바꿀 수 있게 한다.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -1,50 +0,0 @@
-package faddy.core.config;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import faddy.core.common.ApiResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.Ordered;
-import org.springframework.core.annotation.Order;
-import org.springframework.http.*;
-import org.springframework.http.converter.*;
-import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
-
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.*;
-
-@Component
-@Slf4j
-@Order(Ordered.HIGHEST_PRECEDENCE)
-public class CommonHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<Object>> {
-    private final ObjectMapper objectMapper;
-
-    public CommonHttpMessageConverter(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-    }
-
-    @Override
-    public List<MediaType> getSupportedMediaTypes() {
-        return Collections.singletonList(MediaType.APPLICATION_JSON);
-    }
-
-    @Override
-    protected boolean supports(Class<?> clazz) {
-        return clazz.equals(ApiResponse.class) || clazz.isPrimitive() || clazz.equals(String.class);
-    }
-
-    @Override
-    protected ApiResponse<Object> readInternal(Class<? extends ApiResponse<Object>> clazz, HttpInputMessage inputMessage)
-        throws IOException, HttpMessageNotReadableException {
-        throw new UnsupportedOperationException("This converter can only support writing operation.");
-    }
-
-    @Override
-    protected void writeInternal(ApiResponse<Object> resultMessage, HttpOutputMessage outputMessage)
-        throws IOException, HttpMessageNotWritableException {
-        log.info("execute AbstractHttpMessageConverter - writeInternal");
-        String responseMessage = this.objectMapper.writeValueAsString(resultMessage);
-        StreamUtils.copy(responseMessage.getBytes(StandardCharsets.UTF_8), outputMessage.getBody());
-    }
-}
\ No newline at end of file
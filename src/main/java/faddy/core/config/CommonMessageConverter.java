@@ -1,14 +1,10 @@
 package faddy.core.config;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import faddy.core.common.ApiResponse;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpInputMessage;
@@ -18,21 +14,31 @@ import org.springframework.http.converter.AbstractHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
 
+/**
+ * {@link ApiResponse} 응답 전용 컨버터
+ *
+ * <p>응답을 String / byte[] 로 만들지 않고 응답 OutputStream 에 바로 직렬화한다.
+ * ObjectWriter 는 ApiResponse 용으로 한 번만 만들어 재사용하고 (serializer 조회 캐시),
+ * 요청마다 만들어지는 JsonGenerator 는 Jackson 의 BufferRecycler 버퍼를 재사용한다.
+ * 응답 스트림은 컨테이너가 닫아야 하므로 AUTO_CLOSE_TARGET 은 끈다.
+ */
 @Component
-@Slf4j
 @Order(Ordered.HIGHEST_PRECEDENCE) // Convert 구현체 우선순위 획득
-@RequiredArgsConstructor
 public class CommonMessageConverter extends AbstractHttpMessageConverter<ApiResponse<Object>> {
 
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter responseWriter;
+
+    public CommonMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.responseWriter = objectMapper.writerFor(ApiResponse.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
 
     @Override
     protected boolean supports(Class<?> clazz) {
-        log.info("AbstractHttpMessageConverter supports :: {}", clazz);
-        return clazz.equals(ApiResponse.class) || clazz.isPrimitive() || clazz.equals(String.class); //원시형, string , apiResponse<primitive>
-
+        //원시형, string , apiResponse<primitive> (ResponseWrapper 가 ApiResponse 로 감싼 뒤 쓰기)
+        return clazz.equals(ApiResponse.class) || clazz.isPrimitive() || clazz.equals(String.class);
     }
 
     @Override
@@ -44,15 +50,6 @@ public class CommonMessageConverter extends AbstractHttpMessageConverter<ApiResp
     @Override
     protected void writeInternal(ApiResponse<Object> objectApiResponse,
         HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
-
-        String responseMessage = objectMapper.writeValueAsString(objectApiResponse);
-        log.info("AbstractHttpMessageConverter writeInternal :: {}", responseMessage);
-        StreamUtils.copy(responseMessage.getBytes(StandardCharsets.UTF_8) , outputMessage.getBody());
-
-    }
-
-    @Override
-    public List<MediaType> getSupportedMediaTypes() {
-        return Collections.singletonList(MediaType.APPLICATION_JSON);
+        responseWriter.writeValue(outputMessage.getBody(), objectApiResponse);
     }
 }
@@ -0,0 +1,62 @@
+package faddy.core.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 애플리케이션 비동기 작업용 Executor
+ *
+ * <p>pgCallbackExecutor : 비동기 PG 응답 이후의 DB 반영(트랜잭션). OkHttp Dispatcher 스레드는 모든 PG 클라이언트가
+ * 공유하므로 그 위에서 JDBC 트랜잭션을 실행하지 않는다. virtual-threads 프로필에서는 가상 스레드를 사용한다.
+ *
+ * <p>outboxRelayExecutor : outbox 이벤트의 Kafka 전송(브로커 ack 대기). 크기를 제한해 브로커 장애 시 대기 중인
+ * 전송이 다른 비동기 작업의 스레드를 점유하지 않게 한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "executor")
+@Setter
+@Getter
+public class ExecutorConfig {
+    private int pgCallbackPoolSize = 32;
+    private int pgCallbackQueueCapacity = 1_000;
+    private int outboxRelayPoolSize = 8;
+    private int outboxRelayQueueCapacity = 500;
+
+    @Bean
+    public Executor pgCallbackExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("pg-callback-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("pg-callback-");
+        executor.setCorePoolSize(pgCallbackPoolSize);
+        executor.setMaxPoolSize(pgCallbackPoolSize);
+        executor.setQueueCapacity(pgCallbackQueueCapacity);
+        // 큐가 가득 차면 호출 스레드에서 실행 : 승인/취소 결과 반영을 버리지 않는다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean
+    public Executor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setCorePoolSize(outboxRelayPoolSize);
+        executor.setMaxPoolSize(outboxRelayPoolSize);
+        executor.setQueueCapacity(outboxRelayQueueCapacity);
+        // 큐가 가득 차면 버린다 : publication 이 미완료로 남아 OutboxResubmitScheduler 가 다시 전달한다
+        // (커밋 이후 콜백이므로 호출 스레드로 예외를 던지거나 커밋한 요청 스레드에서 전송하지 않는다)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package faddy.core.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공용 ObjectMapper 설정
+ *
+ * <p>Spring Boot 가 만드는 ObjectMapper 하나를 웹 응답, PG(Retrofit) 클라이언트, 정산 응답 파서가 함께 사용한다.
+ * Module 빈은 Boot 가 자동으로 등록한다.
+ * Blackbird 는 getter/setter 리플렉션 호출을 LambdaMetafactory 로 만든 접근자로 바꿔 (역)직렬화 비용을 줄인다
+ * (Afterburner 의 JDK 11+ 후속 모듈).
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
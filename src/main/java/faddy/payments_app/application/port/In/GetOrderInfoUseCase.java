@@ -5,6 +5,7 @@ import java.util.UUID;
 
 public interface GetOrderInfoUseCase {
     Order getOrderById(UUID orderId);
+    Order getOrderWithItemsById(UUID orderId);
 
 
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package faddy.payments_app.application.port.In;
+
+import faddy.payments_app.representation.request.order.CancelOrder;
+import java.util.concurrent.CompletableFuture;
+
+public interface PaymentCancelAsyncUseCase {
+    CompletableFuture<Boolean> paymentCancelAsync(CancelOrder cancelOrder);
+}
@@ -0,0 +1,8 @@
+package faddy.payments_app.application.port.In;
+
+import faddy.payments_app.representation.request.payment.PaymentApproved;
+import java.util.concurrent.CompletableFuture;
+
+public interface PaymentFullfillAsyncUseCase {
+    CompletableFuture<String> paymentApprovedAsync(PaymentApproved paymentInfo);
+}
@@ -0,0 +1,16 @@
+package faddy.payments_app.application.port.out.api;
+
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.representation.request.payment.PaymentApproved;
+import faddy.payments_app.representation.request.payment.PaymentCancel;
+import faddy.payments_app.representation.request.payment.PaymentSettlement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPaymentAPIs {
+    CompletableFuture<ResponsePaymentApproved> requestPaymentApproveAsync(PaymentApproved requestMessage);
+    CompletableFuture<ResponsePaymentCancel> requestPaymentCancelAsync(String paymentKey, PaymentCancel cancelMessage);
+    CompletableFuture<List<ResponsePaymentSettlements>> requestPaymentSettlementAsync(PaymentSettlement paymentSettlement);
+}
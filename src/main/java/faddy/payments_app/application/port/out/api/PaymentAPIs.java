@@ -8,10 +8,14 @@ import faddy.payments_app.representation.request.payment.PaymentCancel;
 import faddy.payments_app.representation.request.payment.PaymentSettlement;
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PaymentAPIs {
     ResponsePaymentApproved requestPaymentApprove(PaymentApproved requestMessage) throws IOException;
     boolean isPaymentApproved(String status);
+    ResponsePaymentApproved requestPaymentByOrderId(String orderId) throws IOException;
     ResponsePaymentCancel requestPaymentCancel(String paymentKey, PaymentCancel cancelMessage) throws IOException;
     List<ResponsePaymentSettlements> requestPaymentSettlement(PaymentSettlement paymentSettlement) throws IOException;
+    int streamPaymentSettlement(PaymentSettlement paymentSettlement, int chunkSize,
+        Consumer<List<ResponsePaymentSettlements>> chunkConsumer) throws IOException;
 }
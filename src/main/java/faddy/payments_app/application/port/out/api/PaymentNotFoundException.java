@@ -0,0 +1,14 @@
+package faddy.payments_app.application.port.out.api;
+
+/**
+ * PG 에 해당 결제가 존재하지 않는 경우 (404, NOT_FOUND_PAYMENT)
+ *
+ * <p>결제 조회에서 이 예외만 "PG 에 결제가 없음" 으로 확정할 수 있다.
+ * 인증 실패(401/403) 등 다른 거절은 결제 존재 여부를 알려주지 않는다.
+ */
+public class PaymentNotFoundException extends PaymentRejectedException {
+
+    public PaymentNotFoundException(String message) {
+        super(message);
+    }
+}
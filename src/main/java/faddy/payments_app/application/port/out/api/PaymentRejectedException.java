@@ -0,0 +1,17 @@
+package faddy.payments_app.application.port.out.api;
+
+import java.io.IOException;
+
+/**
+ * PG 가 요청을 거절한 경우 (4xx 응답)
+ *
+ * <p>결제가 확정적으로 실패했으므로 재시도/복구 대상이 아니다.
+ * 5xx, 타임아웃, 408(Request Timeout), 429(Too Many Requests) 등 결과를 알 수 없는 실패는 일반 IOException 으로 구분한다.
+ * 결제 조회의 404 는 {@link PaymentNotFoundException}
+ */
+public class PaymentRejectedException extends IOException {
+
+    public PaymentRejectedException(String message) {
+        super(message);
+    }
+}
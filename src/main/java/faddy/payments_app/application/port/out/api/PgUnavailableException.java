@@ -0,0 +1,15 @@
+package faddy.payments_app.application.port.out.api;
+
+import java.io.IOException;
+
+/**
+ * PG 보호 계층(circuit open, 동시 호출 한도 초과)에서 요청이 PG 로 전달되기 전에 거절된 경우
+ *
+ * <p>PG 에 요청이 전달되지 않았으므로 결제 상태를 즉시 되돌려도 안전하다.
+ */
+public class PgUnavailableException extends IOException {
+
+    public PgUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,10 @@
 package faddy.payments_app.application.port.out.mq;
 
+import java.util.List;
+import java.util.function.Function;
+
 public interface Producer<T> {
     boolean send(String topic, T record);
+    boolean send(String topic, String key, T record);
+    boolean sendAll(String topic, List<T> records, Function<T, String> keyExtractor);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package faddy.payments_app.application.port.out.repository;
+
+import java.util.Optional;
+
+/**
+ * 멱등 요청 저장소 (메모리 캐시 + DB)
+ */
+public interface IdempotencyRepository {
+    // 처리 완료된 요청의 저장된 응답 (만료된 경우 empty)
+    Optional<String> findCompletedResponse(String idempotencyKey);
+    // 처리 권한 획득. 같은 키가 처리 중이거나 완료된 경우 false
+    boolean tryAcquire(String idempotencyKey);
+    void complete(String idempotencyKey, String responseBody);
+    // 처리 실패 시 키 반환 (같은 키로 재시도 가능)
+    void release(String idempotencyKey);
+    int removeExpired();
+}
@@ -1,10 +1,19 @@
 package faddy.payments_app.application.port.out.repository;
 
 import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.domain.order.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface OrderRepository {
     Order findById(UUID id);
+    Order findByIdWithItems(UUID id);
     Order save(Order newOrder);
     boolean removeAll(UUID id);
+    boolean compareAndSetStatus(UUID id, OrderStatus expected, OrderStatus next);
+    boolean compareAndSetPaymentFullFill(UUID id, String paymentKey);
+    List<Order> findAllByStatusUpdatedBefore(OrderStatus status, LocalDateTime updatedBefore);
+    int updateItemStates(UUID orderId, int[] itemIdxs, OrderStatus state);
+    int updateAllItemStates(UUID orderId, OrderStatus state);
 }
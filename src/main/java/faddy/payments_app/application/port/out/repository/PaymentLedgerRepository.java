@@ -8,4 +8,5 @@ public interface PaymentLedgerRepository {
     PaymentLedger findOneByPaymentKeyDesc(String paymentKey);
     void save(PaymentLedger paymentLedgerInfo);
     void bulkInsert(List<PaymentLedger> paymentLedgerHistories);
+    void bulkUpsert(List<PaymentLedger> paymentLedgerHistories);
 }
\ No newline at end of file
@@ -5,4 +5,5 @@ import java.util.List;
 
 public interface SettlementRepository {
     void bulkInsert(List<PaymentSettlements> paymentSettlements);
+    void bulkUpsert(List<PaymentSettlements> paymentSettlements);
 }
@@ -1,49 +1,94 @@
 package faddy.payments_app.application.service;
 
+import faddy.payments_app.application.port.In.PaymentCancelAsyncUseCase;
 import faddy.payments_app.application.port.In.PaymentCancelUseCase;
+import faddy.payments_app.application.port.out.api.AsyncPaymentAPIs;
 import faddy.payments_app.application.port.out.api.PaymentAPIs;
 import faddy.payments_app.application.port.out.repository.PaymentLedgerRepository;
+import faddy.payments_app.domain.event.PaymentCanceledEvent;
 import faddy.payments_app.domain.order.Order;
 import faddy.payments_app.domain.payment.PaymentLedger;
 import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
 import faddy.payments_app.representation.request.order.CancelOrder;
 import faddy.payments_app.representation.request.payment.PaymentCancel;
 import jakarta.transaction.Transactional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CancelService implements PaymentCancelUseCase {
+public class CancelService implements PaymentCancelUseCase, PaymentCancelAsyncUseCase {
 
     private final PaymentAPIs tossPayment;
+    private final AsyncPaymentAPIs asyncTossPayment;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     private final OrderService orderService;
     private final PaymentService paymentService;
     private final PaymentLedgerRepository paymentLedgerRepository;
+    private final Executor pgCallbackExecutor; // PG 응답 이후 DB 반영 (OkHttp Dispatcher 스레드에서 트랜잭션을 열지 않는다)
 
     @Transactional
     @Override
     public boolean paymentCancel(CancelOrder cancelOrder) throws Exception {
         String paymentKey = cancelOrder.getPaymentKey();
         int cancellationAmount = cancelOrder.getCancellationAmount();
-        Order wantedCancelOrder = orderService.getOrderById(cancelOrder.getOrderId());
+        Order wantedCancelOrder = orderService.getOrderWithItemsById(cancelOrder.getOrderId());
         PaymentLedger paymentInfo = paymentService.getLatestPaymentInfoOnlyOne(paymentKey);
 
-        if (wantedCancelOrder.isNotOrderStatusPurchaseDecision() &&
-            paymentInfo.isCancellableAmountGreaterThan(cancellationAmount)) {
-            ResponsePaymentCancel response = tossPayment.requestPaymentCancel(paymentKey, new PaymentCancel(cancelOrder.getCancelReason(), cancellationAmount));
-            paymentLedgerRepository.save(response.toEntity());
+        verifyCancellable(wantedCancelOrder, paymentInfo, cancelOrder);
+        ResponsePaymentCancel response = tossPayment.requestPaymentCancel(paymentKey, new PaymentCancel(cancelOrder.getCancelReason(), cancellationAmount));
+        completePaymentCancel(wantedCancelOrder, cancelOrder, response);
+        return true;
+    }
+
+    /**
+     * 취소 가능 여부는 요청 스레드에서 검증하고, PG 취소 요청은 비동기로 보낸다.
+     * 응답이 오면 pgCallbackExecutor 의 별도 트랜잭션에서 주문을 다시 조회해 원장과 주문 상태를 반영한다.
+     */
+    @Override
+    public CompletableFuture<Boolean> paymentCancelAsync(CancelOrder cancelOrder) {
+        String paymentKey = cancelOrder.getPaymentKey();
+        int cancellationAmount = cancelOrder.getCancellationAmount();
+        Order wantedCancelOrder = orderService.getOrderWithItemsById(cancelOrder.getOrderId());
+        PaymentLedger paymentInfo = paymentService.getLatestPaymentInfoOnlyOne(paymentKey);
+
+        try {
+            verifyCancellable(wantedCancelOrder, paymentInfo, cancelOrder);
+        } catch (PaymentCancelNotAllowedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return asyncTossPayment.requestPaymentCancelAsync(paymentKey, new PaymentCancel(cancelOrder.getCancelReason(), cancellationAmount))
+            .thenApplyAsync(response -> transactionTemplate.execute(status -> {
+                completePaymentCancel(orderService.getOrderWithItemsById(cancelOrder.getOrderId()), cancelOrder, response);
+                return true;
+            }), pgCallbackExecutor);
+    }
 
-            if (cancelOrder.hasItemIdx())
-                wantedCancelOrder.orderCancel(cancelOrder.getItemIdxs());
-            else
-                wantedCancelOrder.orderAllCancel();
-            return true;
+    private void verifyCancellable(Order order, PaymentLedger paymentInfo, CancelOrder cancelOrder) {
+        if (!order.isNotOrderStatusPurchaseDecision()) {
+            throw PaymentCancelNotAllowedException.purchaseDecided(order.getOrderId());
+        }
+        if (!paymentInfo.isCancellableAmountGreaterThan(cancelOrder.getCancellationAmount())) {
+            throw PaymentCancelNotAllowedException.insufficientBalance(cancelOrder.getPaymentKey(),
+                cancelOrder.getCancellationAmount(), paymentInfo.getBalanceAmount());
         }
+    }
+
+    private void completePaymentCancel(Order wantedCancelOrder, CancelOrder cancelOrder, ResponsePaymentCancel response) {
+        paymentLedgerRepository.save(response.toEntity());
+
+        orderService.cancelOrder(wantedCancelOrder, cancelOrder.getItemIdxs());
 
-        throw new Exception("Not Enough CancellationAmount");
+        eventPublisher.publishEvent(new PaymentCanceledEvent(cancelOrder.getOrderId().toString(),
+            cancelOrder.getPaymentKey(), cancelOrder.getCancellationAmount(), response.getStatus()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package faddy.payments_app.application.service;
+
+/**
+ * 같은 Idempotency-Key 의 요청이 아직 처리 중인 경우
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String idempotencyKey) {
+        super("Request with the same idempotency key is in progress : " + idempotencyKey);
+    }
+}
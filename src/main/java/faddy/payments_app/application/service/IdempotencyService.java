@@ -0,0 +1,105 @@
+package faddy.payments_app.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faddy.payments_app.application.port.out.repository.IdempotencyRepository;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 멱등 요청 처리
+ *
+ * <p>같은 키의 요청이 다시 들어오면 저장된 응답을 그대로 돌려주고 요청(PG 호출, 원장 기록)은 다시 실행하지 않는다.
+ * 같은 키의 요청이 아직 처리 중이면 {@link IdempotencyConflictException}, 처리에 실패하면 키를 반환해 재시도할 수 있게 한다.
+ * 비동기 요청({@link #executeAsync})은 키를 먼저 선점하고, 응답 future 가 끝나는 시점에 응답을 저장하거나 키를 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    private static final long CLEANUP_FIXED_DELAY_MILLIS = 600_000;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+
+    public <T> T execute(String idempotencyKey, Class<T> responseType, Callable<T> request) throws Exception {
+        Optional<T> replayed = replayOrAcquire(idempotencyKey, responseType);
+        if (replayed.isPresent()) {
+            return replayed.get();
+        }
+
+        T response;
+        try {
+            response = request.call();
+        } catch (Exception e) {
+            idempotencyRepository.release(idempotencyKey);
+            throw e;
+        }
+
+        idempotencyRepository.complete(idempotencyKey, objectMapper.writeValueAsString(response));
+        return response;
+    }
+
+    public <T> CompletableFuture<T> executeAsync(String idempotencyKey, Class<T> responseType,
+        Supplier<CompletableFuture<T>> request) throws JsonProcessingException {
+        Optional<T> replayed = replayOrAcquire(idempotencyKey, responseType);
+        if (replayed.isPresent()) {
+            return CompletableFuture.completedFuture(replayed.get());
+        }
+
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            idempotencyRepository.release(idempotencyKey);
+            throw e;
+        }
+
+        return response.whenComplete((value, e) -> {
+            if (e != null) {
+                idempotencyRepository.release(idempotencyKey);
+                return;
+            }
+            try {
+                idempotencyRepository.complete(idempotencyKey, objectMapper.writeValueAsString(value));
+            } catch (JsonProcessingException jsonProcessingException) {
+                throw new CompletionException(jsonProcessingException);
+            }
+        });
+    }
+
+    // 저장된 응답이 있으면 그 응답을, 없으면 키를 선점하고 empty 를 돌려준다
+    private <T> Optional<T> replayOrAcquire(String idempotencyKey, Class<T> responseType) throws JsonProcessingException {
+        Optional<String> stored = idempotencyRepository.findCompletedResponse(idempotencyKey);
+        if (stored.isPresent()) {
+            log.info("idempotent replay idempotencyKey = {}", idempotencyKey);
+            return Optional.of(objectMapper.readValue(stored.get(), responseType));
+        }
+
+        if (!idempotencyRepository.tryAcquire(idempotencyKey)) {
+            // 조회와 획득 사이에 다른 요청이 완료했을 수 있다
+            stored = idempotencyRepository.findCompletedResponse(idempotencyKey);
+            if (stored.isPresent()) {
+                return Optional.of(objectMapper.readValue(stored.get(), responseType));
+            }
+            throw new IdempotencyConflictException(idempotencyKey);
+        }
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelay = CLEANUP_FIXED_DELAY_MILLIS)
+    public void removeExpiredRecords() {
+        int removed = idempotencyRepository.removeExpired();
+        if (removed > 0) {
+            log.info("removed expired idempotency records count = {}", removed);
+        }
+    }
+}
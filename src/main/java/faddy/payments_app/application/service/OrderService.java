@@ -4,6 +4,7 @@ import faddy.payments_app.application.port.In.CreateNewOrderUseCase;
 import faddy.payments_app.application.port.In.GetOrderInfoUseCase;
 import faddy.payments_app.application.port.out.repository.OrderRepository;
 import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.domain.order.OrderStatus;
 import faddy.payments_app.representation.request.order.PurchaseOrder;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -30,4 +31,25 @@ public class OrderService implements CreateNewOrderUseCase, GetOrderInfoUseCase
     public Order getOrderById(UUID orderId) {
         return orderRepository.findById(orderId);
     }
+
+    @Override
+    public Order getOrderWithItemsById(UUID orderId) {
+        return orderRepository.findByIdWithItems(orderId);
+    }
+
+    /**
+     * 주문 취소 반영
+     *
+     * 상품 상태는 OrderItem 엔티티를 변경하지 않고 한 문장의 UPDATE 로 일괄 변경한다 (상품별 UPDATE 없음).
+     * UPDATE 이후 영속성 컨텍스트가 비워지므로 전달받은 order 는 준영속 상태가 된다 (이후 상태는 다시 조회).
+     * itemIdxs 가 비어 있으면 주문 전체 취소
+     */
+    public void cancelOrder(Order order, int[] itemIdxs) {
+        if (itemIdxs == null || itemIdxs.length == 0) {
+            order.orderStatusCancel();
+            orderRepository.updateAllItemStates(order.getOrderId(), OrderStatus.ORDER_CANCELLED);
+            return;
+        }
+        orderRepository.updateItemStates(order.getOrderId(), order.cancellableItemIdxs(itemIdxs), OrderStatus.ORDER_CANCELLED);
+    }
 }
@@ -0,0 +1,23 @@
+package faddy.payments_app.application.service;
+
+import java.util.UUID;
+
+/**
+ * 결제 취소 요청이 주문/원장 상태상 허용되지 않는 경우 (PG 로 요청하지 않음)
+ */
+public class PaymentCancelNotAllowedException extends RuntimeException {
+
+    private PaymentCancelNotAllowedException(String message) {
+        super(message);
+    }
+
+    public static PaymentCancelNotAllowedException purchaseDecided(UUID orderId) {
+        return new PaymentCancelNotAllowedException("Order is already purchase-decided and cannot be canceled : " + orderId);
+    }
+
+    public static PaymentCancelNotAllowedException insufficientBalance(String paymentKey, int cancellationAmount,
+        int balanceAmount) {
+        return new PaymentCancelNotAllowedException("Cancellation amount " + cancellationAmount
+            + " exceeds cancellable balance " + balanceAmount + " : " + paymentKey);
+    }
+}
@@ -0,0 +1,70 @@
+package faddy.payments_app.application.service;
+
+import faddy.payments_app.application.port.out.api.PaymentAPIs;
+import faddy.payments_app.application.port.out.api.PaymentNotFoundException;
+import faddy.payments_app.application.port.out.repository.OrderRepository;
+import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.domain.order.OrderStatus;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * PAYMENT_PENDING 으로 남은 주문 복구
+ *
+ * 승인 요청 중 타임아웃/5xx/서버 중단 등으로 결과를 반영하지 못한 주문을 주기적으로 찾아
+ * PG 에 주문번호로 결제를 조회한 뒤 승인 또는 원복으로 확정한다.
+ * 주문을 되돌리는 것은 PG 가 결제 없음(404)을 응답한 경우뿐이다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentRecoveryService {
+
+    // PG readTimeout(60s) 보다 충분히 길게 잡아 진행 중인 승인 요청과 겹치지 않게 한다
+    private static final long PENDING_TIMEOUT_MINUTES = 5;
+    private static final long RECOVERY_FIXED_DELAY_MILLIS = 60_000;
+    private static final Set<String> FAILED_STATUSES = Set.of("ABORTED", "EXPIRED", "CANCELED");
+
+    private final PaymentAPIs tossPayment;
+    private final OrderRepository orderRepository;
+    private final PaymentService paymentService;
+    private final Clock clock;
+
+    @Scheduled(fixedDelay = RECOVERY_FIXED_DELAY_MILLIS)
+    public void recoverPendingPayments() {
+        List<Order> pendingOrders = orderRepository.findAllByStatusUpdatedBefore(OrderStatus.PAYMENT_PENDING,
+            LocalDateTime.now(clock).minusMinutes(PENDING_TIMEOUT_MINUTES));
+
+        for (Order pendingOrder : pendingOrders) {
+            recover(pendingOrder.getOrderId());
+        }
+    }
+
+    private void recover(UUID orderId) {
+        try {
+            ResponsePaymentApproved response = tossPayment.requestPaymentByOrderId(orderId.toString());
+
+            // IN_PROGRESS 등 아직 확정되지 않은 상태는 다음 주기에 다시 확인
+            if (tossPayment.isPaymentApproved(response.getStatus()) || FAILED_STATUSES.contains(response.getStatus())) {
+                String result = paymentService.completePaymentApproved(orderId, response);
+                log.info("recovered pending payment orderId = {}, result = {}", orderId, result);
+            }
+        } catch (PaymentNotFoundException e) {
+            // PG 에 결제가 존재하지 않음 -> 승인되지 않은 주문
+            paymentService.releasePendingOrder(orderId);
+            log.info("released pending order orderId = {}", orderId);
+        } catch (IOException e) {
+            // 인증 실패(401/403), 429, 5xx 등은 결제 존재 여부를 알 수 없으므로 PAYMENT_PENDING 을 유지
+            log.warn("failed to recover pending payment orderId = {}", orderId, e);
+        }
+    }
+}
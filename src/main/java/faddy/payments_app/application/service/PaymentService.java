@@ -1,12 +1,16 @@
 package faddy.payments_app.application.service;
 
 import faddy.payments_app.application.port.In.GetPaymentInfoUseCase;
+import faddy.payments_app.application.port.In.PaymentFullfillAsyncUseCase;
 import faddy.payments_app.application.port.In.PaymentFullfillUseCase;
+import faddy.payments_app.application.port.out.api.AsyncPaymentAPIs;
 import faddy.payments_app.application.port.out.api.PaymentAPIs;
+import faddy.payments_app.application.port.out.api.PaymentRejectedException;
+import faddy.payments_app.application.port.out.api.PgUnavailableException;
 import faddy.payments_app.application.port.out.repository.OrderRepository;
 import faddy.payments_app.application.port.out.repository.PaymentLedgerRepository;
 import faddy.payments_app.application.port.out.repository.TransactionTypeRepository;
-import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.domain.event.PaymentApprovedEvent;
 import faddy.payments_app.domain.order.OrderStatus;
 import faddy.payments_app.domain.payment.PaymentLedger;
 import faddy.payments_app.domain.payment.PaymentMethod;
@@ -20,26 +24,34 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 //@Transactional // 모듈 수준에서 격리
 @RequiredArgsConstructor
 @Slf4j
-public class PaymentService implements PaymentFullfillUseCase, GetPaymentInfoUseCase {
+public class PaymentService implements PaymentFullfillUseCase, PaymentFullfillAsyncUseCase, GetPaymentInfoUseCase {
 
     @Qualifier("tossPayment")
     private final PaymentAPIs tossPayment;
+    private final AsyncPaymentAPIs asyncTossPayment;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     private final OrderRepository orderRepository;
     private final PaymentLedgerRepository paymentLedgerRepository;
     private final Set<TransactionTypeRepository> transactionTypeRepositorySet;
+    private final Executor pgCallbackExecutor; // PG 응답 이후 DB 반영 (OkHttp Dispatcher 스레드에서 트랜잭션을 열지 않는다)
 
     private final Map<String, TransactionTypeRepository> transactionTypeRepositories = new HashMap<>();
-    private TransactionTypeRepository transactionTypeRepository;
 
     @PostConstruct
     public void init() {
@@ -62,42 +74,117 @@ public class PaymentService implements PaymentFullfillUseCase, GetPaymentInfoUse
         return paymentLedgerRepository.findOneByPaymentKeyDesc(paymentKey);
     }
 
-    @Transactional
+    /**
+     * 결제 승인
+     *
+     * 1. 짧은 트랜잭션에서 주문을 PAYMENT_PENDING 으로 선점 (ORDER_COMPLETED 인 경우만)
+     * 2. 커넥션을 점유하지 않은 상태로 PG 승인 요청
+     * 3. 짧은 트랜잭션에서 승인 결과(주문/원장/결제수단) 반영
+     *
+     * PG 가 거절(408 / 429 를 제외한 4xx)하거나 요청이 PG 로 전달되지 않았으면 주문을 즉시 되돌리고,
+     * 결과를 알 수 없는 실패(5xx, 타임아웃, 408, 429)는 PAYMENT_PENDING 으로 남겨
+     * {@link PaymentRecoveryService} 가 PG 조회로 확정한다.
+     */
     @Override
     public String paymentApproved(PaymentApproved paymentInfo) throws IOException {
-        verifyOrderIsCompleted(UUID.fromString(paymentInfo.getOrderId()));
-        ResponsePaymentApproved response = tossPayment.requestPaymentApprove(paymentInfo);
+        UUID orderId = UUID.fromString(paymentInfo.getOrderId());
+        markPaymentPending(orderId);
+
+        ResponsePaymentApproved response;
+        try {
+            response = tossPayment.requestPaymentApprove(paymentInfo);
+        } catch (IOException e) {
+            if (isDefinitiveFailure(e)) {
+                releasePendingOrder(orderId);
+            }
+            throw e;
+        }
 
-        if(tossPayment.isPaymentApproved(response.getStatus())) {
-            Order completedOrder = orderRepository.findById(UUID.fromString(response.getOrderId()));
-            completedOrder.orderPaymentFullFill(response.getPaymentKey());
+        return completePaymentApproved(orderId, response);
+    }
+
+    /**
+     * PG 승인 요청을 비동기로 보내고, 응답이 오면 pgCallbackExecutor 의 별도 트랜잭션에서 주문/원장을 반영한다.
+     * PG 응답을 기다리는 동안 트랜잭션과 요청 스레드를 점유하지 않는다.
+     * 실패 처리는 동기 승인과 같다 (거절/미전달은 즉시 원복, 그 외는 PAYMENT_PENDING 유지).
+     */
+    @Override
+    public CompletableFuture<String> paymentApprovedAsync(PaymentApproved paymentInfo) {
+        UUID orderId = UUID.fromString(paymentInfo.getOrderId());
+        markPaymentPending(orderId);
+
+        return asyncTossPayment.requestPaymentApproveAsync(paymentInfo)
+            .whenCompleteAsync((response, e) -> {
+                if (isDefinitiveFailure(e)) {
+                    releasePendingOrder(orderId);
+                }
+            }, pgCallbackExecutor)
+            .thenApplyAsync(response -> completePaymentApproved(orderId, response), pgCallbackExecutor);
+    }
+
+    // PG 가 거절했거나 PG 로 요청이 전달되지 않은 경우 : 결과가 확정적이므로 바로 되돌린다
+    private static boolean isDefinitiveFailure(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof PaymentRejectedException || cause instanceof PgUnavailableException;
+    }
+
+    /**
+     * PG 승인 결과를 반영 (자체 트랜잭션)
+     *
+     * 승인 응답과 복구 작업({@link PaymentRecoveryService})이 같은 주문을 동시에 확정할 수 있으므로
+     * PAYMENT_PENDING 에서의 조건부 UPDATE 에 성공한 한 경로만 원장/결제수단/이벤트를 기록한다.
+     * 이미 다른 경로에서 확정된 주문이면 확정된 결과만 반환한다.
+     */
+    String completePaymentApproved(UUID orderId, ResponsePaymentApproved response) {
+        return transactionTemplate.execute(status -> {
+            if (!tossPayment.isPaymentApproved(response.getStatus())) {
+                return orderRepository.compareAndSetStatus(orderId, OrderStatus.PAYMENT_PENDING, OrderStatus.ORDER_COMPLETED)
+                    ? "fail" : confirmedResult(orderId);
+            }
+
+            if (!orderRepository.compareAndSetPaymentFullFill(orderId, response.getPaymentKey())) {
+                return confirmedResult(orderId);
+            }
+            orderRepository.updateAllItemStates(orderId, OrderStatus.PAYMENT_FULLFILL);
 
             paymentLedgerRepository.save(response.toPaymentTransactionEntity());
             PaymentMethod method = PaymentMethod.fromMethodName(response.getMethod());
-            initTransactionTypeRepository(method);
-            transactionTypeRepository.save(TransactionType.convertToTransactionType(response));
+            getTransactionTypeRepository(method).save(TransactionType.convertToTransactionType(response));
+            eventPublisher.publishEvent(new PaymentApprovedEvent(orderId.toString(), response.getPaymentKey(),
+                response.getMethod(), response.getTotalAmount()));
 
             return "success";
-        }
+        });
+    }
+
+    private String confirmedResult(UUID orderId) {
+        return orderRepository.findById(orderId).getStatus() == OrderStatus.PAYMENT_FULLFILL ? "success" : "fail";
+    }
 
-        return "fail";
+    void releasePendingOrder(UUID orderId) {
+        transactionTemplate.executeWithoutResult(status ->
+            orderRepository.compareAndSetStatus(orderId, OrderStatus.PAYMENT_PENDING, OrderStatus.ORDER_COMPLETED));
     }
 
-    public void verifyOrderIsCompleted(UUID orderId) {
-        OrderStatus orderStatus = orderRepository.findById(orderId).getStatus();
+    // 동시에 같은 주문으로 승인 요청이 들어와도 하나만 PG 로 전달된다
+    private void markPaymentPending(UUID orderId) {
+        Boolean marked = transactionTemplate.execute(status ->
+            orderRepository.compareAndSetStatus(orderId, OrderStatus.ORDER_COMPLETED, OrderStatus.PAYMENT_PENDING));
 
-        if(!orderStatus.equals(OrderStatus.ORDER_COMPLETED)) {
+        if (!Boolean.TRUE.equals(marked)) {
             throw new IllegalArgumentException("Order is not completed || Order is already paymented");
         }
     }
 
-    private void initTransactionTypeRepository(PaymentMethod paymentMethod) {
+    // 싱글톤 서비스이므로 조회 결과를 필드에 두지 않는다 (동시 승인 요청 간 경합 방지)
+    private TransactionTypeRepository getTransactionTypeRepository(PaymentMethod paymentMethod) {
         String methodKey = paymentMethod.toString().toLowerCase();
-        transactionTypeRepository = transactionTypeRepositories.get(methodKey);
+        TransactionTypeRepository transactionTypeRepository = transactionTypeRepositories.get(methodKey);
 
         if (transactionTypeRepository == null) {
             throw new RuntimeException("Unsupported payment method: " + paymentMethod);
         }
+        return transactionTypeRepository;
     }
 
 }
@@ -6,45 +6,85 @@ import faddy.payments_app.application.port.out.api.PaymentAPIs;
 import faddy.payments_app.application.port.out.mq.Producer;
 import faddy.payments_app.application.port.out.repository.PaymentLedgerRepository;
 import faddy.payments_app.application.port.out.repository.SettlementRepository;
+import faddy.payments_app.domain.event.SettlementsIngestedEvent;
 import faddy.payments_app.domain.settlements.PaymentSettlements;
-import faddy.payments_app.infrastructure.out.mq.record$.RPaymentSettlements;
-import faddy.payments_app.infrastructure.out.mq.record$.Settlements;
+import faddy.payments_app.infrastructure.out.mq.codec.SettlementRecordCodec;
+import faddy.payments_app.infrastructure.out.mq.record$.SettlementRecord;
 import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
 import faddy.payments_app.representation.request.payment.PaymentSettlement;
 import java.io.IOException;
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
 public class SettlementsService implements PaymentSettlementsUseCase , SendSettlementsInfoUseCase {
 
-    private final static String SETTLEMENTS_TOPIC = "settlements";
+    private final static String SETTLEMENT_RECORDS_TOPIC = "settlement-records-v2";
+    private final static int SETTLEMENTS_PAGE_SIZE = 5000;
+    private final static int SETTLEMENTS_CHUNK_SIZE = 500;
+    private final static ZoneId SETTLEMENT_ZONE = ZoneId.of("Asia/Seoul");
+    private final static DateTimeFormatter SETTLEMENT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     private final PaymentAPIs mockPayment;
     private final SettlementRepository settlementRepository;
     private final PaymentLedgerRepository paymentLedgerRepository;
-    private final Producer<RPaymentSettlements> producer;
+    private final Producer<SettlementRecord> producer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock settlementClock; // 정산일 기준 시간대(Asia/Seoul) 의 Clock
 
-    @SneakyThrows
+    /**
+     * 정산 기간의 모든 페이지를 순회하며 정산 내역을 적재
+     * 페이지 응답은 스트리밍으로 파싱되고, SETTLEMENTS_CHUNK_SIZE 단위로 바로 DB 에 기록된다.
+     */
     @Override
     public void getPaymentSettlements() throws IOException {
-        List<ResponsePaymentSettlements> response = mockPayment.requestPaymentSettlement(createPaymentSettlement());
-        List<PaymentSettlements> settlementsHistories = response.stream()
+        PaymentSettlement request = createPaymentSettlement();
+        int fetched;
+        do {
+            fetched = mockPayment.streamPaymentSettlement(request, SETTLEMENTS_CHUNK_SIZE, this::saveSettlements);
+            log.info("settlements page={} fetched={}", request.getPage(), fetched);
+            request = request.nextPage();
+        } while (fetched == request.getSize());
+    }
+
+    // chunk 단위 트랜잭션 : 정산/원장 적재와 적재 이벤트(outbox) 기록을 함께 커밋
+    private void saveSettlements(List<ResponsePaymentSettlements> chunk) {
+        List<PaymentSettlements> settlementsHistories = chunk.stream()
             .map(ResponsePaymentSettlements::toEntity)
             .toList();
-        settlementRepository.bulkInsert(settlementsHistories);
-        paymentLedgerRepository.bulkInsert(
-            settlementsHistories.stream().map(PaymentSettlements::toPaymentLedger)
-                .toList()
-        );
+
+        transactionTemplate.executeWithoutResult(status -> {
+            settlementRepository.bulkUpsert(settlementsHistories);
+            paymentLedgerRepository.bulkUpsert(
+                settlementsHistories.stream().map(PaymentSettlements::toPaymentLedger)
+                    .toList()
+            );
+            eventPublisher.publishEvent(toIngestedEvent(settlementsHistories));
+        });
+    }
+
+    private SettlementsIngestedEvent toIngestedEvent(List<PaymentSettlements> settlementsHistories) {
+        List<String> soldDates = settlementsHistories.stream()
+            .map(settlements -> settlements.getSoldDate().toString())
+            .sorted()
+            .toList();
+        long totalPayOutAmount = settlementsHistories.stream().mapToLong(PaymentSettlements::getPayOutAmount).sum();
+
+        return new SettlementsIngestedEvent(soldDates.get(0), soldDates.get(soldDates.size() - 1),
+            settlementsHistories.size(), totalPayOutAmount);
     }
 
     @Autowired
@@ -52,46 +92,53 @@ public class SettlementsService implements PaymentSettlementsUseCase , SendSettl
         @Qualifier("mockTossPayment") PaymentAPIs mockPayment,
         SettlementRepository settlementRepository,
         PaymentLedgerRepository paymentLedgerRepository,
-        Producer<RPaymentSettlements> producer) {
+        Producer<SettlementRecord> producer,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher,
+        Clock clock) {
         this.mockPayment = mockPayment;
         this.settlementRepository = settlementRepository;
         this.paymentLedgerRepository = paymentLedgerRepository;
         this.producer = producer;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.settlementClock = clock.withZone(SETTLEMENT_ZONE);
     }
 
     private PaymentSettlement createPaymentSettlement() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String startDate = LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusDays(3).format(formatter);
-        String endDate = LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusDays(1).format(formatter);
+        LocalDate today = LocalDate.now(settlementClock);
+        String startDate = today.minusDays(3).format(SETTLEMENT_DATE_FORMAT);
+        String endDate = today.minusDays(1).format(SETTLEMENT_DATE_FORMAT);
         return PaymentSettlement.builder()
             .startDate(startDate)
             .endDate(endDate)
             .page(1)
-            .size(5000)
+            .size(SETTLEMENTS_PAGE_SIZE)
             .build();
     }
 
+    /**
+     * 정산 내역을 건별 메시지(key: paymentKey)로 발행
+     * 페이지를 스트리밍으로 읽어 chunk 단위로 전송하므로 한 번에 큰 요청/메시지가 만들어지지 않는다.
+     */
     @SneakyThrows
     @Override
     public boolean send() {
-        List<ResponsePaymentSettlements> response = mockPayment.requestPaymentSettlement(createPaymentSettlement());
-        List<PaymentSettlements> datum = response.stream()
-            .map(ResponsePaymentSettlements::toEntity)
-            .toList();
-        RPaymentSettlements record = RPaymentSettlements.newBuilder()
-            .setSettlements(datum.stream().map(data -> Settlements.newBuilder()
-                .setId(data.getId())
-                .setPaymentKey(data.getPaymentKey())
-                .setTotalAmount(data.getTotalAmount())
-                .setPayOutAmount(data.getPayOutAmount())
-                .setCanceledAmount(data.getCanceledAmount())
-                .setMethod(data.getMethod().toString())
-                .setSoldDate(data.getSoldDate().toString())
-                .setPaidOutDate(data.getPaidOutDate().toString())
-                .build()
-            ).toList())
-            .build();
-        producer.send(SETTLEMENTS_TOPIC, record);
-        return true;
+        PaymentSettlement request = createPaymentSettlement();
+        AtomicBoolean allSent = new AtomicBoolean(true);
+        int fetched;
+        do {
+            fetched = mockPayment.streamPaymentSettlement(request, SETTLEMENTS_CHUNK_SIZE, chunk -> {
+                List<SettlementRecord> records = chunk.stream()
+                    .map(SettlementRecordCodec::toRecord)
+                    .toList();
+                if (!producer.sendAll(SETTLEMENT_RECORDS_TOPIC, records, SettlementRecord::getPaymentKey)) {
+                    allSent.set(false);
+                }
+            });
+            request = request.nextPage();
+        } while (fetched == request.getSize());
+
+        return allSent.get();
     }
 }
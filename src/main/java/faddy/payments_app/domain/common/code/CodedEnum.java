@@ -0,0 +1,8 @@
+package faddy.payments_app.domain.common.code;
+
+/**
+ * DB 에 2자리 숫자 코드(CHAR(2), "01" ~ "99")로 저장하는 enum
+ */
+public interface CodedEnum {
+    String getCode();
+}
@@ -0,0 +1,25 @@
+package faddy.payments_app.domain.common.code;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * {@link CodedEnum} 을 코드 컬럼으로 저장하는 JPA 컨버터 (enum 별로 상속해 사용)
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, String> {
+
+    private final EnumCodec<E> codec;
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.codec = new EnumCodec<>(type);
+    }
+
+    @Override
+    public String convertToDatabaseColumn(E attribute) {
+        return codec.encode(attribute);
+    }
+
+    @Override
+    public E convertToEntityAttribute(String dbData) {
+        return codec.decode(dbData);
+    }
+}
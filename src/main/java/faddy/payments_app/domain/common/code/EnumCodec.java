@@ -0,0 +1,70 @@
+package faddy.payments_app.domain.common.code;
+
+/**
+ * {@link CodedEnum} 코드 <-> enum 변환
+ *
+ * <p>코드 두 자리를 숫자로 바꿔 미리 만든 배열에서 바로 찾는다 (문자열 해시/비교 없음).
+ * 생성 시 코드 형식과 중복을 검증하므로 잘못된 코드 정의는 클래스 로딩 시점에 실패한다.
+ */
+public final class EnumCodec<E extends Enum<E> & CodedEnum> {
+
+    private static final int CODE_SPACE = 100;
+
+    private final Class<E> type;
+    private final Object[] byCode = new Object[CODE_SPACE];
+
+    public EnumCodec(Class<E> type) {
+        this.type = type;
+        for (E constant : type.getEnumConstants()) {
+            int index = indexOf(constant.getCode());
+            if (index < 0 || byCode[index] != null) {
+                throw new IllegalStateException("Invalid or duplicate code " + constant.getCode() + " in " + type.getSimpleName());
+            }
+            byCode[index] = constant;
+        }
+    }
+
+    public String encode(E value) {
+        return value == null ? null : value.getCode();
+    }
+
+    @SuppressWarnings("unchecked")
+    public E decode(String code) {
+        if (code == null) {
+            return null;
+        }
+
+        int index = indexOf(code);
+        if (index < 0 || byCode[index] == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code : " + code);
+        }
+        return (E) byCode[index];
+    }
+
+    /**
+     * 코드의 정수값 ("01" -> 1). 메시지 등 문자열이 아닌 형식으로 보낼 때 사용
+     */
+    public int encodeInt(E value) {
+        return indexOf(value.getCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    public E decodeInt(int code) {
+        if (code < 0 || code >= CODE_SPACE || byCode[code] == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code : " + code);
+        }
+        return (E) byCode[code];
+    }
+
+    private static int indexOf(String code) {
+        if (code.length() != 2) {
+            return -1;
+        }
+        int tens = code.charAt(0) - '0';
+        int ones = code.charAt(1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+}
@@ -0,0 +1,19 @@
+package faddy.payments_app.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 승인 완료 이벤트
+ * 원장 기록과 같은 트랜잭션에서 발행되어 event_publication(outbox) 에 저장된다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaymentApprovedEvent {
+    private String orderId;
+    private String paymentKey;
+    private String method;
+    private int totalAmount;
+}
@@ -0,0 +1,20 @@
+package faddy.payments_app.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 내역 적재 이벤트 (적재 chunk 단위)
+ * 정산/원장 bulk insert 와 같은 트랜잭션에서 발행되어 event_publication(outbox) 에 저장된다.
+ * outbox 행 크기를 일정하게 유지하기 위해 건별 paymentKey 대신 chunk 요약만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SettlementsIngestedEvent {
+    private String firstSoldDate;
+    private String lastSoldDate;
+    private int count;
+    private long totalPayOutAmount;
+}
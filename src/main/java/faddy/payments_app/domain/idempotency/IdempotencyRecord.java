@@ -0,0 +1,69 @@
+package faddy.payments_app.domain.idempotency;
+
+import faddy.payments_app.domain.common.TimeBaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 멱등 요청 기록
+ *
+ * <p>idempotencyKey 를 PK 로 INSERT 해 동시에 들어온 같은 요청 중 하나만 처리되도록 한다.
+ * 항상 신규(persist)로 저장하므로 키가 이미 있으면 merge 가 아니라 PK 중복 예외가 발생한다.
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class IdempotencyRecord extends TimeBaseEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // MySQL ENUM 이 아닌 VARCHAR 컬럼 (마이그레이션과 일치)
+    @Column(name = "status", length = 20, nullable = false)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private IdempotencyRecord(String idempotencyKey, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.status = IdempotencyStatus.IN_PROGRESS;
+        this.expiresAt = expiresAt;
+    }
+
+    public static IdempotencyRecord inProgress(String idempotencyKey, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(idempotencyKey, expiresAt);
+    }
+
+    public boolean isCompleted(LocalDateTime now) {
+        return status == IdempotencyStatus.COMPLETED && expiresAt.isAfter(now);
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
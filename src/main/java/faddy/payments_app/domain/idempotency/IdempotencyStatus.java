@@ -0,0 +1,6 @@
+package faddy.payments_app.domain.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,    // 최초 요청 처리 중
+    COMPLETED       // 처리 완료, 응답 저장됨
+}
@@ -2,17 +2,19 @@ package faddy.payments_app.domain.order;
 
 
 import faddy.payments_app.domain.common.TimeBaseEntity;
+import faddy.payments_app.domain.common.id.TimeOrderedUuid;
+import faddy.payments_app.domain.common.id.UuidV7;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -22,16 +24,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "purchase_order")
+@Table(name = "purchase_order", indexes = {
+    // PAYMENT_PENDING 복구 대상 조회 (findAllByStatusAndUpdDtBefore)
+    @Index(name = "idx_purchase_order_state_upd_dt", columnList = "order_state, upd_dt")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
 public class Order extends TimeBaseEntity {
 
+    // 시간 순서 UUID : purchase_order(PK), order_items.order_id 에 순서대로 INSERT
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "order_id", columnDefinition = "BINARY(16)")
     private UUID orderId;
 
@@ -46,7 +54,8 @@ public class Order extends TimeBaseEntity {
     @Column(name = "total_price")
     private int totalPrice;
 
-    @Column(name = "order_state")
+    @Column(name = "order_state", length = 2)
+    @JdbcTypeCode(SqlTypes.CHAR)
     @Convert(converter = OrderStatusConverter.class)
     private OrderStatus status;
 
@@ -66,7 +75,7 @@ public class Order extends TimeBaseEntity {
     }
 
     public static UUID generateOrderId() {
-        return UUID.randomUUID();
+        return UuidV7.next();
     }
 
     public void orderPaymentFullFill(String paymentKey) {
@@ -80,14 +89,36 @@ public class Order extends TimeBaseEntity {
     }
 
     public void orderCancel(int[] itemIdxs) {
-        for(int itemIdx : itemIdxs){
-            orderCancelBy(itemIdx);
-        }
+        int[] sortedItemIdxs = sortedCopy(itemIdxs);
+        this.items.stream().filter(orderItem -> contains(sortedItemIdxs, orderItem.getItemIdx()))
+            .forEach(item -> item.update(OrderStatus.ORDER_CANCELLED));
     }
 
-    private void orderCancelBy(int itemIdx) {
-        this.items.stream().filter(orderItem -> orderItem.getItemIdx() == itemIdx)
-            .forEach(item -> item.update(OrderStatus.ORDER_CANCELLED));
+    // 주문 상태만 취소로 변경 (상품 상태는 저장소에서 일괄 갱신)
+    public void orderStatusCancel() {
+        this.status = OrderStatus.ORDER_CANCELLED;
+    }
+
+    // 요청한 itemIdx 중 주문에 있고 아직 취소되지 않은 상품의 itemIdx
+    public int[] cancellableItemIdxs(int[] itemIdxs) {
+        int[] sortedItemIdxs = sortedCopy(itemIdxs);
+        return this.items.stream()
+            .filter(orderItem -> orderItem.getState() != OrderStatus.ORDER_CANCELLED)
+            .mapToInt(OrderItem::getItemIdx)
+            .filter(itemIdx -> contains(sortedItemIdxs, itemIdx))
+            .distinct()
+            .toArray();
+    }
+
+    // 상품 한 건당 이진 탐색 한 번 : O((n + m) log m), 상품마다 요청 목록을 훑는 O(n * m) 대신
+    private static int[] sortedCopy(int[] itemIdxs) {
+        int[] sorted = itemIdxs.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static boolean contains(int[] sortedItemIdxs, int itemIdx) {
+        return Arrays.binarySearch(sortedItemIdxs, itemIdx) >= 0;
     }
 
     public static boolean verifyHaveAtLeastOneItem(List<OrderItem> items) {
@@ -105,6 +136,10 @@ public class Order extends TimeBaseEntity {
             throw new IllegalArgumentException("There are duplicate order item ids");
     }
 
+    public boolean isPaymentPending() {
+        return this.status.equals(OrderStatus.PAYMENT_PENDING);
+    }
+
     public boolean isNotOrderStatusPurchaseDecision() {
         return !(this.status.equals(OrderStatus.PURCHASE_DECISION));
     }
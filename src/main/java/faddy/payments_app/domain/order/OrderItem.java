@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,6 +19,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "order_items")
@@ -27,8 +30,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderItem extends TimeBaseEntity {
 
+    // IDENTITY 는 INSERT 마다 생성 키를 받아야 해서 JDBC batch 가 꺼진다.
+    // pooled 시퀀스(MySQL 은 order_item_seq 테이블)로 50 개씩 미리 할당해 주문 상품 INSERT 를 batch 로 보낸다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
     private int id;
 
     @Column(name = "item_idx")
@@ -54,7 +60,8 @@ public class OrderItem extends TimeBaseEntity {
 
     private int quantity;
 
-    @Column(name = "order_state")
+    @Column(name = "order_state", length = 2)
+    @JdbcTypeCode(SqlTypes.CHAR)
     @Convert(converter = OrderStatusConverter.class)
     private OrderStatus state;
 
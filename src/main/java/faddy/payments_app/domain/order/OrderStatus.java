@@ -1,5 +1,6 @@
 package faddy.payments_app.domain.order;
 
+import faddy.payments_app.domain.common.code.CodedEnum;
 import lombok.Getter;
 
 /**
@@ -11,17 +12,19 @@ import lombok.Getter;
  * - SHIPPING(05): 배송 중인 상태, 물품이 고객에게 배송되는 중
  * - SHIPPING_COMPLETED(06): 배송이 완료된 상태 고객에게 상품이 전달
  * - PURCHASE_DECISION(07): 구매 결정 상태. 고객이 최종 구매 확정 전 상태
+ * - PAYMENT_PENDING(08): PG 승인 요청이 진행 중인 상태. 승인 결과에 따라 PAYMENT_FULLFILL 또는 ORDER_COMPLETED 로 전이
  */
 
 @Getter
-public enum OrderStatus {
+public enum OrderStatus implements CodedEnum {
     ORDER_COMPLETED("01"),
     ORDER_CANCELLED("02"),
     PAYMENT_FULLFILL("03"),
     SHIPPING_PREPARE("04"),
     SHIPPING("05"),
     SHIPPING_COMPLETED("06"),
-    PURCHASE_DECISION("07");
+    PURCHASE_DECISION("07"),
+    PAYMENT_PENDING("08");
 
     private final String code;
 
@@ -1,19 +1,11 @@
 package faddy.payments_app.domain.order;
 
-import jakarta.persistence.AttributeConverter;
+import faddy.payments_app.domain.common.code.CodedEnumConverter;
 import jakarta.persistence.Converter;
-import lombok.extern.slf4j.Slf4j;
 
 @Converter(autoApply = true)
-@Slf4j
-public class OrderStatusConverter implements AttributeConverter<OrderStatus, String> {
-    @Override
-    public String convertToDatabaseColumn(OrderStatus orderStatus) {
-        return orderStatus.name();
-    }
-
-    @Override
-    public OrderStatus convertToEntityAttribute(String s) {
-        return OrderStatus.valueOf(s);
+public class OrderStatusConverter extends CodedEnumConverter<OrderStatus> {
+    public OrderStatusConverter() {
+        super(OrderStatus.class);
     }
 }
@@ -7,14 +7,24 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.sql.Date;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "payment_transaction")
+@Table(name = "payment_transaction", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_transaction_natural", columnNames = {"payment_id", "payment_status", "sold_date"})
+}, indexes = {
+    // paymentKey 별 최신 원장 조회 (findTopByPaymentKeyOrderByIdDesc)
+    @Index(name = "idx_payment_transaction_payment_id_id", columnList = "payment_id, id")
+})
 @Builder
 @Getter
 @AllArgsConstructor
@@ -27,10 +37,13 @@ public class PaymentLedger extends TimeBaseEntity {
     @Column(name = "payment_id")
     private String paymentKey; // example) tgen_20240605132741Jtkz1
 
+    @Column(length = 2)
+    @JdbcTypeCode(SqlTypes.CHAR)
     @Convert(converter = PaymentMethodConverter.class)
-    private PaymentMethod method; // CARD:카드
+    private PaymentMethod method; // CARD:01
 
-    @Column(name = "payment_status")
+    @Column(name = "payment_status", length = 2)
+    @JdbcTypeCode(SqlTypes.CHAR)
     @Convert(converter = PaymentStatusConverter.class)
     private PaymentStatus paymentStatus; // DONE, CANCELED, PARTIAL_CANCELED, SETTLEMENTS_REQUESTED, SETTLEMENTS_COMPLETED
 
@@ -46,6 +59,9 @@ public class PaymentLedger extends TimeBaseEntity {
     @Column(name = "pay_out_amount")
     private int payOutAmount; //전산(지급)액
 
+    @Column(name = "sold_date")
+    private Date soldDate; // 정산 매출일 (정산 원장만 존재, 승인/취소 원장은 NULL)
+
     public boolean isCancellableAmountGreaterThan(int cancellationAmount){
         return balanceAmount >= cancellationAmount;
     }
@@ -1,26 +1,37 @@
 package faddy.payments_app.domain.payment;
 
-import java.util.Collections;
+import faddy.payments_app.domain.common.code.CodedEnum;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Getter;
 
+/**
+ * 결제 수단
+ * - methodName : 토스 API 의 결제 수단 이름
+ * - code : DB 저장 코드
+ */
 @Getter
-public enum PaymentMethod {
-    CARD("카드");
+public enum PaymentMethod implements CodedEnum {
+    CARD("카드", "01");
 
     private final String methodName;
+    private final String code;
 
-    private static final Map<String,String> methodMap = Collections.unmodifiableMap(
-        Stream.of(values()).collect(Collectors.toMap(PaymentMethod::getMethodName, PaymentMethod::name))
-    );
+    private static final Map<String, PaymentMethod> methodMap = Stream.of(values())
+        .collect(Collectors.toUnmodifiableMap(PaymentMethod::getMethodName, Function.identity()));
 
     public static PaymentMethod fromMethodName(String methodName) {
-        return PaymentMethod.valueOf(methodMap.get(methodName));
+        PaymentMethod method = methodMap.get(methodName);
+        if (method == null) {
+            throw new IllegalArgumentException("Unknown payment method : " + methodName);
+        }
+        return method;
     }
 
-    PaymentMethod(String name) {
+    PaymentMethod(String name, String code) {
         this.methodName = name;
+        this.code = code;
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package faddy.payments_app.domain.payment;
 
+import faddy.payments_app.domain.common.code.CodedEnum;
+import lombok.Getter;
+
 /**
  * 결제 상태를 나타내는 데이터
  * - DONE: 인증된 결제수단 정보, 고객 정보로 요청한 결제가 승인된 상태
@@ -8,12 +11,20 @@ package faddy.payments_app.domain.payment;
  * - SETTLEMENTS_REQUESTED: 정산이 요청된 상태
  * - SETTLEMENTS_COMPLETED: 정산이 완료된 상태
  * - SETTLEMENTS_CANCELED: 정산이 취소된 상태
+ * (괄호 안은 DB 저장 코드, 결제 0x / 정산 1x)
  */
-public enum PaymentStatus {
-    DONE,
-    PARTIAL_CANCELED,
-    CANCELED,
-    SETTLEMENTS_REQUESTED,
-    SETTLEMENTS_COMPLETED,
-    SETTLEMENTS_CANCELED
+@Getter
+public enum PaymentStatus implements CodedEnum {
+    DONE("01"),
+    PARTIAL_CANCELED("02"),
+    CANCELED("03"),
+    SETTLEMENTS_REQUESTED("11"),
+    SETTLEMENTS_COMPLETED("12"),
+    SETTLEMENTS_CANCELED("13");
+
+    private final String code;
+
+    PaymentStatus(String code) {
+        this.code = code;
+    }
 }
\ No newline at end of file
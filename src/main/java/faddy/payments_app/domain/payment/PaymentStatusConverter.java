@@ -1,19 +1,11 @@
 package faddy.payments_app.domain.payment;
 
-import jakarta.persistence.AttributeConverter;
+import faddy.payments_app.domain.common.code.CodedEnumConverter;
 import jakarta.persistence.Converter;
-import lombok.extern.slf4j.Slf4j;
 
 @Converter(autoApply = true)
-@Slf4j
-public class PaymentStatusConverter implements AttributeConverter<PaymentStatus, String> {
-    @Override
-    public String convertToDatabaseColumn(PaymentStatus status) {
-        return status.name();
-    }
-
-    @Override
-    public PaymentStatus convertToEntityAttribute(String s) {
-        return PaymentStatus.valueOf(s);
+public class PaymentStatusConverter extends CodedEnumConverter<PaymentStatus> {
+    public PaymentStatusConverter() {
+        super(PaymentStatus.class);
     }
 }
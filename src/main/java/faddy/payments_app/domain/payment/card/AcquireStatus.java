@@ -1,5 +1,8 @@
 package faddy.payments_app.domain.payment.card;
 
+import faddy.payments_app.domain.common.code.CodedEnum;
+import lombok.Getter;
+
 /**
  * acquireStatus string
  * 카드 결제의 매입 상태
@@ -9,6 +12,17 @@ package faddy.payments_app.domain.payment.card;
  * - CANCEL_REQUESTED: 매입 취소가 요청된 상태
  * - CANCELED: 요청된 매입 취소가 완료된 상태
  */
-public enum AcquireStatus {
-    READY, REQUESTED, COMPLETED, CANCEL_REQUESTED, CANCELLED;
+@Getter
+public enum AcquireStatus implements CodedEnum {
+    READY("01"),
+    REQUESTED("02"),
+    COMPLETED("03"),
+    CANCEL_REQUESTED("04"),
+    CANCELLED("05");
+
+    private final String code;
+
+    AcquireStatus(String code) {
+        this.code = code;
+    }
 }
\ No newline at end of file
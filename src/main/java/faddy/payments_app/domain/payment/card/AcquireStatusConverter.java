@@ -1,15 +1,9 @@
 package faddy.payments_app.domain.payment.card;
 
-import jakarta.persistence.AttributeConverter;
+import faddy.payments_app.domain.common.code.CodedEnumConverter;
 
-public class AcquireStatusConverter implements AttributeConverter<AcquireStatus, String> {
-    @Override
-    public String convertToDatabaseColumn(AcquireStatus acquireStatus) {
-        return acquireStatus.name();
+public class AcquireStatusConverter extends CodedEnumConverter<AcquireStatus> {
+    public AcquireStatusConverter() {
+        super(AcquireStatus.class);
     }
-
-    @Override
-    public AcquireStatus convertToEntityAttribute(String s) {
-        return AcquireStatus.valueOf(s);
-    }
-}
\ No newline at end of file
+}
@@ -10,6 +10,8 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "card_payment")
@@ -27,7 +29,8 @@ public class CardPayment extends TransactionType {
     @Column(name = "approve_no")
     private String approveNo;
 
-    @Column(name = "acquire_status")
+    @Column(name = "acquire_status", length = 2)
+    @JdbcTypeCode(SqlTypes.CHAR)
     @Convert(converter = AcquireStatusConverter.class)
     private AcquireStatus acquireStatus;
 
@@ -13,16 +13,21 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.sql.Date;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 
 @Entity
-@Table(name = "payment_settlements")
+@Table(name = "payment_settlements", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_settlements_natural", columnNames = {"payment_id", "settlements_status", "sold_date"})
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,10 +40,13 @@ public class PaymentSettlements extends TimeBaseEntity {
     @Column(name = "payment_id")
     private String paymentKey; // example) tgen_20240605132741Jtkz1
 
+    @Column(length = 2)
+    @JdbcTypeCode(SqlTypes.CHAR)
     @Convert(converter = PaymentMethodConverter.class)
-    private PaymentMethod method; // CARD:카드
+    private PaymentMethod method; // CARD:01
 
-    @Column(name = "settlements_status")
+    @Column(name = "settlements_status", length = 2)
+    @JdbcTypeCode(SqlTypes.CHAR)
     @Convert(converter = PaymentStatusConverter.class)
     private PaymentStatus paymentStatus; // DONE, CANCELED, PARTIAL_CANCELED, SETTLEMENTS_REQUESTED, SETTLEMENTS_COMPLETED
 
@@ -67,6 +75,7 @@ public class PaymentSettlements extends TimeBaseEntity {
             .balanceAmount(totalAmount - canceledAmount)
             .canceledAmount(canceledAmount)
             .payOutAmount(payOutAmount)
+            .soldDate(soldDate)
             .build();
     }
 
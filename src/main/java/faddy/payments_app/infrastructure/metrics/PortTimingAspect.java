@@ -0,0 +1,136 @@
+package faddy.payments_app.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 포트 호출 지연 지표
+ *
+ * <p>- usecase.duration : 인바운드 포트(application.port.In) 호출, 태그 usecase / method / outcome / exception
+ * <p>- port.out.duration : 아웃바운드 포트(application.port.out - PG, 저장소, Producer) 호출,
+ * 태그 port / method / adapter / outcome / exception
+ * <p>p50 / p99 / p999 와 Prometheus 용 히스토그램 버킷을 함께 내보낸다.
+ * CompletionStage 를 반환하는 비동기 포트는 완료 시점까지를 측정한다.
+ * 같은 포트를 구현한 데코레이터(ResilientPaymentAPIs)가 실제 어댑터(TossPayment)를 호출하면 바깥 호출만 측정한다
+ * (재시도 포함 전체 시간, adapter 태그는 데코레이터). 시도 단위 지표는 resilience4j 지표를 사용한다.
+ * Timer 는 태그 조합별로 한 번만 등록하고 이후 호출은 캐시된 Timer 에 기록한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class PortTimingAspect {
+
+    private static final String INBOUND_PORT_PACKAGE = "faddy.payments_app.application.port.In";
+    private static final String OUTBOUND_PORT_PACKAGE = "faddy.payments_app.application.port.out";
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<TimerId, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Method, String> portNames = new ConcurrentHashMap<>();
+    // 현재 스레드에서 측정 중인 아웃바운드 포트 (데코레이터 -> 어댑터 중첩 호출 중복 측정 방지)
+    private final ThreadLocal<Set<String>> activeOutboundPorts = ThreadLocal.withInitial(HashSet::new);
+
+    @Around("execution(* faddy.payments_app.application.port.In..*.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        TimerId timer = new TimerId("usecase.duration", "usecase", portName(signature, INBOUND_PORT_PACKAGE),
+            signature.getName(), null, null, null);
+        return time(joinPoint, timer);
+    }
+
+    @Around("execution(* faddy.payments_app.application.port.out..*.*(..))")
+    public Object timeOutboundPort(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String port = portName(signature, OUTBOUND_PORT_PACKAGE);
+
+        Set<String> activePorts = activeOutboundPorts.get();
+        if (!activePorts.add(port)) {
+            return joinPoint.proceed();
+        }
+        try {
+            TimerId timer = new TimerId("port.out.duration", "port", port, signature.getName(),
+                AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName(), null, null);
+            return time(joinPoint, timer);
+        } finally {
+            activePorts.remove(port);
+        }
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, TimerId timer) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, timer, e);
+            throw e;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, e) -> stop(sample, timer, e));
+        } else {
+            stop(sample, timer, null);
+        }
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, TimerId timer, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        sample.stop(timers.computeIfAbsent(timer.withOutcome(cause), this::register));
+    }
+
+    private Timer register(TimerId id) {
+        Timer.Builder timer = Timer.builder(id.name())
+            .tag(id.portTag(), id.port())
+            .tag("method", id.method());
+        if (id.adapter() != null) {
+            timer.tag("adapter", id.adapter());
+        }
+        return timer
+            .tag("outcome", id.outcome())
+            .tag("exception", id.exception())
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    // 프록시(CGLIB)에서는 선언 타입이 구현 클래스이므로, 메서드를 선언한 포트 인터페이스 이름을 찾는다
+    private String portName(MethodSignature signature, String portPackage) {
+        return portNames.computeIfAbsent(signature.getMethod(), method -> {
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(method.getDeclaringClass())) {
+                if (type.getPackageName().startsWith(portPackage)
+                    && ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+                    return type.getSimpleName();
+                }
+            }
+            return method.getDeclaringClass().getSimpleName();
+        });
+    }
+
+    private record TimerId(String name, String portTag, String port, String method, String adapter,
+                           String outcome, String exception) {
+
+        TimerId withOutcome(Throwable cause) {
+            return new TimerId(name, portTag, port, method, adapter, cause == null ? SUCCESS : ERROR,
+                cause == null ? NONE : cause.getClass().getSimpleName());
+        }
+    }
+}
@@ -4,14 +4,22 @@ import faddy.payments_app.application.port.out.repository.SettlementRepository;
 import faddy.payments_app.domain.payment.PaymentMethod;
 import faddy.payments_app.domain.payment.PaymentStatus;
 import faddy.payments_app.domain.settlements.PaymentSettlements;
+import faddy.payments_app.infrastructure.out.mq.codec.SettlementRecordCodec;
 import faddy.payments_app.infrastructure.out.mq.record$.RPaymentSettlements;
-import faddy.payments_app.infrastructure.out.mq.record$.Settlements;
+import faddy.payments_app.infrastructure.out.mq.record$.SettlementRecord;
 import java.sql.Date;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,29 +27,80 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class KafkaConsumer {
     private final static String SETTLEMENTS_TOPIC = "settlements";
+    private final static String SETTLEMENT_RECORDS_TOPIC = "settlement-records-v2";
+    private final static LogAccessor LOG_ACCESSOR = new LogAccessor(KafkaConsumer.class);
     private final SettlementRepository paymentSettlementsRepository;
 
-    // record 를 수신하기 위한 consumer 설정
-    @KafkaListener(topics = SETTLEMENTS_TOPIC)
-    public void receive(ConsumerRecord<String, RPaymentSettlements> consumerRecord) {
-
-        RPaymentSettlements payload = consumerRecord.value();
-        log.info("received payload = {}", payload.getSettlements().get(0).getPaymentKey());
-
-        List<Settlements> records = payload.getSettlements();
-        List<PaymentSettlements> rows = records.stream()
-            .map(record -> PaymentSettlements.builder()
-                .paymentKey(record.getPaymentKey())
-                .method(PaymentMethod.valueOf(record.getMethod()))
-                .paymentStatus(PaymentStatus.valueOf("SETTLEMENTS_REQUESTED"))
-                .totalAmount(record.getTotalAmount())
-                .payOutAmount(record.getPayOutAmount())
-                .canceledAmount(record.getCanceledAmount())
-                .soldDate(Date.valueOf(record.getSoldDate()))
-                .paidOutDate(Date.valueOf(record.getPaidOutDate()))
-                .build()
-            )
-            .toList();
-        paymentSettlementsRepository.bulkInsert(rows);
+    // 정산 1건 단위 메시지 (key: paymentKey). poll 한 번에 받은 레코드를 하나의 bulk upsert 로 적재 (정상 반환 시 컨테이너가 offset 커밋)
+    // 날짜/enum 은 레코드에 이미 타입으로 담겨 있으므로 문자열 파싱 없이 도메인 객체로 변환한다
+    @KafkaListener(topics = SETTLEMENT_RECORDS_TOPIC, containerFactory = "settlementRecordListenerContainerFactory")
+    public void receiveRecords(List<ConsumerRecord<String, SettlementRecord>> consumerRecords) {
+        int inserted = upsert(consumerRecords,
+            record -> List.of(SettlementRecordCodec.toSettlements(record)));
+        log.info("settlement records polled={} inserted={}", consumerRecords.size(), inserted);
     }
-}
\ No newline at end of file
+
+    // 기존 배열 포맷 (Confluent 형식, 전환 기간 동안만 소비)
+    // settlements.kafka.legacy-array-consumer=false 이거나 schema-registry-url 이 없으면 시작하지 않는다 (batchKafkaListenerContainerFactory)
+    @KafkaListener(topics = SETTLEMENTS_TOPIC, containerFactory = "batchKafkaListenerContainerFactory")
+    public void receive(List<ConsumerRecord<String, RPaymentSettlements>> consumerRecords) {
+        int inserted = upsert(consumerRecords,
+            settlements -> settlements.getSettlements().stream()
+                .map(record -> toPaymentSettlements(record.getPaymentKey(), record.getMethod(), record.getTotalAmount(),
+                    record.getPayOutAmount(), record.getCanceledAmount(), record.getSoldDate(), record.getPaidOutDate()))
+                .toList());
+        log.info("settlements polled={} inserted={}", consumerRecords.size(), inserted);
+    }
+
+    // 레코드 순서대로 변환하다 실패하면 앞선 레코드까지만 적재하고 실패 위치를 BatchListenerFailedException 으로 알린다
+    // 에러 핸들러가 앞선 offset 을 커밋하고 실패 레코드는 DLT 로 보낸 뒤 나머지 레코드를 다시 수신한다
+    // (DeserializationException / ConversionException 은 재시도하지 않는 예외로 분류된다)
+    private <V> int upsert(List<ConsumerRecord<String, V>> consumerRecords,
+        Function<V, List<PaymentSettlements>> converter) {
+        List<PaymentSettlements> rows = new ArrayList<>(consumerRecords.size());
+        for (int index = 0; index < consumerRecords.size(); index++) {
+            ConsumerRecord<String, V> consumerRecord = consumerRecords.get(index);
+            DeserializationException deserializationException = deserializationFailure(consumerRecord);
+            if (deserializationException != null) {
+                paymentSettlementsRepository.bulkUpsert(rows);
+                throw new BatchListenerFailedException("settlement record deserialization failed",
+                    deserializationException, index);
+            }
+            try {
+                rows.addAll(converter.apply(consumerRecord.value()));
+            } catch (RuntimeException e) {
+                paymentSettlementsRepository.bulkUpsert(rows);
+                throw new BatchListenerFailedException("settlement record conversion failed",
+                    new ConversionException("cannot convert settlement record key=" + consumerRecord.key(), e),
+                    index);
+            }
+        }
+
+        paymentSettlementsRepository.bulkUpsert(rows);
+        return rows.size();
+    }
+
+    private PaymentSettlements toPaymentSettlements(String paymentKey, String method, int totalAmount,
+        int payOutAmount, int canceledAmount, String soldDate, String paidOutDate) {
+        return PaymentSettlements.builder()
+            .paymentKey(paymentKey)
+            .method(PaymentMethod.valueOf(method))
+            .paymentStatus(PaymentStatus.valueOf("SETTLEMENTS_REQUESTED"))
+            .totalAmount(totalAmount)
+            .payOutAmount(payOutAmount)
+            .canceledAmount(canceledAmount)
+            .soldDate(Date.valueOf(soldDate))
+            .paidOutDate(Date.valueOf(paidOutDate))
+            .build();
+    }
+
+    // 역직렬화에 실패한 레코드는 ErrorHandlingDeserializer 가 value 를 null 로 넘기고 원본 바이트를 예외 헤더에 담는다
+    // DLT 전송 시 DeadLetterPublishingRecoverer 가 이 원본 바이트를 그대로 보내므로 다시 재생할 수 있다
+    private static DeserializationException deserializationFailure(ConsumerRecord<String, ?> consumerRecord) {
+        if (consumerRecord.value() != null) {
+            return null;
+        }
+        return SerializationUtils.getExceptionFromHeader(consumerRecord,
+            SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+    }
+}
@@ -1,6 +1,12 @@
 package faddy.payments_app.infrastructure.out.mq;
 
 import faddy.payments_app.application.port.out.mq.Producer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -13,10 +19,40 @@ public class KafkaProducer<T> implements Producer<T> {
 
     private final KafkaTemplate<String, T> kafkaTemplate;
 
+    private final static long SEND_TIMEOUT_SECONDS = 30;
+
+    // 브로커 ack 까지 기다려 전송 결과를 반환 (실패를 호출 측에서 알 수 있도록)
     @Override
     public boolean send(String topic, T record) {
-        log.info("sending payloa={} to topic={}", record, topic);
-        kafkaTemplate.send(topic, record);
+        return send(topic, null, record);
+    }
+
+    @Override
+    public boolean send(String topic, String key, T record) {
+        log.info("sending record key={} to topic={}", key, topic);
+        return await(topic, kafkaTemplate.send(topic, key, record));
+    }
+
+    // 전체를 먼저 전송 큐에 넣고 한 번에 ack 를 기다린다 (건별 대기 없이 producer 배치 활용)
+    @Override
+    public boolean sendAll(String topic, List<T> records, Function<T, String> keyExtractor) {
+        CompletableFuture<?>[] futures = records.stream()
+            .map(record -> kafkaTemplate.send(topic, keyExtractor.apply(record), record))
+            .toArray(CompletableFuture[]::new);
+        log.info("sending {} records to topic={}", futures.length, topic);
+        return await(topic, CompletableFuture.allOf(futures));
+    }
+
+    private boolean await(String topic, CompletableFuture<?> future) {
+        try {
+            future.get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("interrupted while sending to topic={}", topic, e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("failed to send to topic={}", topic, e);
+        }
         return false;
     }
 }
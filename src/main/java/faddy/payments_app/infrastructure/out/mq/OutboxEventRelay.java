@@ -0,0 +1,78 @@
+package faddy.payments_app.infrastructure.out.mq;
+
+import faddy.payments_app.domain.event.PaymentApprovedEvent;
+import faddy.payments_app.domain.event.PaymentCanceledEvent;
+import faddy.payments_app.domain.event.SettlementsIngestedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * outbox(event_publication) 에 기록된 이벤트를 Kafka 로 전달
+ *
+ * <p>트랜잭션 커밋 후 outboxRelayExecutor 에서 비동기로 실행된다. publication 은 리스너가 정상 반환하면
+ * 완료 처리되므로 브로커 ack 를 기다린 뒤 반환하고, ack 를 받지 못하면 예외를 던져 미완료 상태로 남겨
+ * {@link OutboxResubmitScheduler} 가 다시 전달한다. 재전달로 인한 중복은 idempotent producer 와
+ * 이벤트 키(컨슈머 측 멱등 처리)로 흡수한다.
+ * 전송은 outboxKafkaTemplate 의 linger/batch 설정으로 브로커 요청 단위로 묶인다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventRelay {
+    private final static String PAYMENT_EVENTS_TOPIC = "payment-events";
+    private final static String SETTLEMENT_EVENTS_TOPIC = "settlement-events";
+    private final static long SEND_TIMEOUT_SECONDS = 10;
+
+    private final KafkaTemplate<String, Object> outboxKafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Async("outboxRelayExecutor")
+    @TransactionalEventListener
+    public void on(PaymentApprovedEvent event) {
+        publish(PAYMENT_EVENTS_TOPIC, event.getPaymentKey(), event);
+    }
+
+    @Async("outboxRelayExecutor")
+    @TransactionalEventListener
+    public void on(PaymentCanceledEvent event) {
+        publish(PAYMENT_EVENTS_TOPIC, event.getPaymentKey(), event);
+    }
+
+    @Async("outboxRelayExecutor")
+    @TransactionalEventListener
+    public void on(SettlementsIngestedEvent event) {
+        // 정산 이벤트는 chunk 요약이라 paymentKey 가 없다 : 판매일 기준으로 같은 파티션에 순서대로 적재
+        publish(SETTLEMENT_EVENTS_TOPIC, event.getFirstSoldDate(), event);
+    }
+
+    private void publish(String topic, String key, Object event) {
+        String eventType = event.getClass().getSimpleName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            outboxKafkaTemplate.send(topic, key, event).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            meterRegistry.counter("outbox.events.published", "type", eventType).increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw fail(eventType, topic, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw fail(eventType, topic, e);
+        } finally {
+            sample.stop(meterRegistry.timer("outbox.events.publish.latency", "type", eventType));
+        }
+    }
+
+    private IllegalStateException fail(String eventType, String topic, Exception e) {
+        meterRegistry.counter("outbox.events.failed", "type", eventType).increment();
+        log.warn("failed to publish {} to topic={}, will be resubmitted", eventType, topic, e);
+        return new IllegalStateException("Failed to publish " + eventType, e);
+    }
+}
@@ -0,0 +1,25 @@
+package faddy.payments_app.infrastructure.out.mq;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커 장애 등으로 전달되지 못한 outbox 이벤트를 주기적으로 재전달
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxResubmitScheduler {
+    // 최초 전송(SEND_TIMEOUT 10s)이 진행 중인 이벤트와 겹치지 않도록 충분히 지난 건만 재전달
+    private final static Duration RESUBMIT_OLDER_THAN = Duration.ofMinutes(1);
+    private final static long RESUBMIT_FIXED_DELAY_MILLIS = 30_000;
+
+    private final IncompleteEventPublications incompleteEventPublications;
+
+    @Scheduled(fixedDelay = RESUBMIT_FIXED_DELAY_MILLIS)
+    public void resubmit() {
+        incompleteEventPublications.resubmitIncompletePublicationsOlderThan(RESUBMIT_OLDER_THAN);
+    }
+}
@@ -0,0 +1,69 @@
+package faddy.payments_app.infrastructure.out.mq.codec;
+
+import faddy.payments_app.domain.common.code.EnumCodec;
+import faddy.payments_app.domain.payment.PaymentMethod;
+import faddy.payments_app.domain.payment.PaymentStatus;
+import faddy.payments_app.domain.settlements.PaymentSettlements;
+import faddy.payments_app.infrastructure.out.mq.record$.SettlementRecord;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * PG 정산 응답 -> {@link SettlementRecord} 직접 변환
+ *
+ * <p>중간 엔티티(PaymentSettlements) 와 문자열 왕복 없이 enum 은 코드 정수값, 날짜는 Avro date(epoch day) 로 담는다.
+ * 수신 측은 {@link #toSettlements} 로 저장소 포트가 받는 도메인 객체로 복원한다 (enum 은 배열 조회).
+ */
+public final class SettlementRecordCodec {
+
+    private static final EnumCodec<PaymentMethod> METHOD_CODEC = new EnumCodec<>(PaymentMethod.class);
+    private static final EnumCodec<PaymentStatus> STATUS_CODEC = new EnumCodec<>(PaymentStatus.class);
+
+    private SettlementRecordCodec() {
+    }
+
+    public static SettlementRecord toRecord(ResponsePaymentSettlements response) {
+        return new SettlementRecord(
+            response.getPaymentKey(),
+            METHOD_CODEC.encodeInt(PaymentMethod.fromMethodName(response.getMethod())),
+            STATUS_CODEC.encodeInt(response.toSettlementStatus()),
+            response.getTotalAmount(),
+            response.getCancel() == null ? 0 : response.getCancel().getCancelAmount(),
+            response.getPayOutAmount(),
+            parseDate(response.getSoldDate()),
+            parseDate(response.getPaidOutDate()));
+    }
+
+    public static PaymentSettlements toSettlements(SettlementRecord record) {
+        return PaymentSettlements.builder()
+            .paymentKey(record.getPaymentKey())
+            .method(method(record))
+            .paymentStatus(status(record))
+            .totalAmount(record.getTotalAmount())
+            .payOutAmount(record.getPayOutAmount())
+            .canceledAmount(record.getCanceledAmount())
+            .soldDate(Date.valueOf(record.getSoldDate()))
+            .paidOutDate(Date.valueOf(record.getPaidOutDate()))
+            .build();
+    }
+
+    public static PaymentMethod method(SettlementRecord record) {
+        return METHOD_CODEC.decodeInt(record.getMethod());
+    }
+
+    public static PaymentStatus status(SettlementRecord record) {
+        return STATUS_CODEC.decodeInt(record.getSettlementsStatus());
+    }
+
+    // yyyy-MM-dd 고정 형식 : DateTimeFormatter 의 파싱 중간 객체 없이 숫자만 읽는다
+    static LocalDate parseDate(String date) {
+        if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            throw new IllegalArgumentException("Invalid settlement date : " + date);
+        }
+        return LocalDate.of(
+            Integer.parseInt(date, 0, 4, 10),
+            Integer.parseInt(date, 5, 7, 10),
+            Integer.parseInt(date, 8, 10, 10));
+    }
+}
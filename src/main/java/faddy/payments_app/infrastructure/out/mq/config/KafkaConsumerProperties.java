@@ -1,29 +1,59 @@
 package faddy.payments_app.infrastructure.out.mq.config;
 
 
+import faddy.payments_app.infrastructure.out.mq.record$.RPaymentSettlements;
+import faddy.payments_app.infrastructure.out.mq.record$.SettlementRecord;
+import faddy.payments_app.infrastructure.out.mq.serde.AvroSingleObjectDeserializer;
+import faddy.payments_app.infrastructure.out.mq.serde.AvroSingleObjectSerializer;
 import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.StringUtils;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 @Configuration
 @ConfigurationProperties(prefix = "spring.kafka.consumer")
 @Setter
 @Getter
+@Slf4j
 public class KafkaConsumerProperties {
+    private static final String DEAD_LETTER_SUFFIX = ".DLT";
+
     private String[] bootstrapServers;
     private String groupId;
-    private String schemaRegistryUrl;
+    private String schemaRegistryUrl; // 비우면 settlement-records-v2(single-object encoding)만 소비하고 기존 settlements 토픽은 소비하지 않는다
+    private int concurrency = 3; // 파티션 수 이하로 설정 (초과분은 유휴 상태)
+    private int maxPollRecords = 500;
 
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
@@ -32,20 +62,117 @@ public class KafkaConsumerProperties {
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, String.join(",", bootstrapServers));
         config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, KafkaAvroDeserializer.class); //역 직렬화
-        config.put(KafkaAvroDeserializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+        // 기존 settlements 토픽은 Confluent 형식(레지스트리 스키마 id)으로만 쓰여 있으므로 레지스트리 없이는 읽을 수 없다
+        // 역직렬화 실패 레코드는 ErrorHandlingDeserializer 가 원본 바이트를 헤더에 담아 넘기고, 리스너가 DLT 로 보낸다
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, KafkaAvroDeserializer.class); //역 직렬화
+        if (StringUtils.hasText(schemaRegistryUrl)) {
+            config.put(KafkaAvroDeserializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+        }
         config.put(KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true); // Avro 역직렬화기
-        config.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, 52_428_800); // 50MB
+        config.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, 52_428_800); // 50MB (기존 배열 포맷 메시지 수신용, 전환 완료 후 제거)
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
 
         return new DefaultKafkaConsumerFactory<>(config);
     }
 
+    // 정산 레코드(settlement-records-v2) 전용 : single-object encoding 메시지를 레지스트리 조회 없이 SettlementRecord 로 바로 읽는다
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConsumerFactory<String, SettlementRecord> settlementRecordConsumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, String.join(",", bootstrapServers));
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        // Deserializer 는 컨슈머(스레드)마다 새로 만들어 내부 decoder 를 공유하지 않는다
+        return new DefaultKafkaConsumerFactory<>(config, StringDeserializer::new,
+            () -> new ErrorHandlingDeserializer<>(new AvroSingleObjectDeserializer<>(SettlementRecord.class)));
+    }
+
+    // poll 단위 배치 리스너 : 리스너가 정상 반환하면 컨테이너가 배치 offset 을 커밋 (실패 처리는 settlementsErrorHandler)
+    // 직접 만든 factory 는 Boot 의 spring.threads.virtual 설정이 적용되지 않으므로 listener executor 를 명시적으로 지정
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(Environment environment) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+        factory.setCommonErrorHandler(settlementsErrorHandler());
+        factory.setAutoStartup(isLegacyConsumerEnabled(environment));
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            factory.getContainerProperties().setListenerTaskExecutor(new VirtualThreadTaskExecutor("settlements-consumer-"));
+        }
 
         return factory;
     }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, SettlementRecord> settlementRecordListenerContainerFactory(
+        Environment environment) {
+        ConcurrentKafkaListenerContainerFactory<String, SettlementRecord> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(settlementRecordConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+        factory.setCommonErrorHandler(settlementsErrorHandler());
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            factory.getContainerProperties().setListenerTaskExecutor(new VirtualThreadTaskExecutor("settlements-consumer-"));
+        }
+
+        return factory;
+    }
+
+    // 정산 리스너 공통 에러 핸들러
+    // - 적재 실패(DB 장애, 락 타임아웃) : offset 을 커밋하지 않고 같은 배치를 지수 백오프(1s -> 최대 60s)로 제한 없이 재시도
+    // - 레코드 단위 실패(BatchListenerFailedException) : 앞선 레코드 offset 만 커밋하고, 실패 레코드는 재시도하지 않고
+    //   <토픽>.DLT 로 보낸 뒤 뒤 레코드부터 다시 수신 (역직렬화/변환 실패는 재시도해도 같은 결과)
+    @Bean
+    public CommonErrorHandler settlementsErrorHandler() {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(settlementsDeadLetterKafkaTemplate(),
+            (consumerRecord, e) -> new TopicPartition(consumerRecord.topic() + DEAD_LETTER_SUFFIX, -1)); // 파티션은 key 로 결정
+
+        ExponentialBackOff backOff = new ExponentialBackOff(1_000L, 2.0);
+        backOff.setMaxInterval(60_000L);
+
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
+    // DLT 전송용 : 역직렬화 실패 레코드는 원본 바이트 그대로, 변환 실패 레코드는 수신한 메시지 형식 그대로 쓴다
+    @Bean
+    public KafkaTemplate<String, Object> settlementsDeadLetterKafkaTemplate() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, String.join(",", bootstrapServers));
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        Map<Class<?>, Serializer<?>> valueSerializers = new HashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(SettlementRecord.class, new AvroSingleObjectSerializer());
+        if (StringUtils.hasText(schemaRegistryUrl)) { // 기존 settlements 토픽 (Confluent 형식)
+            config.put(KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+            valueSerializers.put(RPaymentSettlements.class, new KafkaAvroSerializer());
+        }
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(config, new StringSerializer(),
+            new DelegatingByTypeSerializer(valueSerializers)));
+    }
+
+    // 기존 배열 토픽 컨슈머 : 전환 기간 설정이 켜져 있고 레지스트리가 있을 때만 시작
+    private boolean isLegacyConsumerEnabled(Environment environment) {
+        if (!environment.getProperty("settlements.kafka.legacy-array-consumer", Boolean.class, true)) {
+            return false;
+        }
+        if (!StringUtils.hasText(schemaRegistryUrl)) {
+            log.warn("schema-registry-url is not set, legacy settlements consumer will not start");
+            return false;
+        }
+        return true;
+    }
 }
@@ -1,38 +1,44 @@
 package faddy.payments_app.infrastructure.out.mq.config;
 
-import io.confluent.kafka.serializers.KafkaAvroSerializer;
-import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import faddy.payments_app.infrastructure.out.mq.serde.AvroSingleObjectSerializer;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
 
 @Configuration
 @ConfigurationProperties(prefix = "spring.kafka.producer")
 @Setter
 @Getter
 public class KafkaProducerProperties {
+    // v2 : Avro single-object encoding + date/int 코드 스키마 (기존 settlement-records 와 메시지 형식이 다름)
+    private final static String SETTLEMENT_RECORDS_TOPIC = "settlement-records-v2";
+
     private String[] bootstrapServers;
-    private String schemaRegistryUrl;
+    private int settlementRecordsPartitions = 6;
+    private short replicationFactor = 1;
 
+    // 정산 레코드 전송용. 스키마 fingerprint 만 싣고 로컬 스키마 캐시(AvroSchemaCache)를 쓰므로 레지스트리 호출이 없다
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, String.join(",", bootstrapServers));
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
-        config.put(KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
-        config.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, 31_457_280);
-
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, AvroSingleObjectSerializer.class);
 
         return new DefaultKafkaProducerFactory<>(config);
     }
@@ -42,9 +48,63 @@ public class KafkaProducerProperties {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    @Bean
+    public KafkaAdmin kafkaAdmin() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, String.join(",", bootstrapServers));
+        return new KafkaAdmin(config);
+    }
+
+    // 정산 1건 = 메시지 1건, paymentKey 로 파티셔닝
+    @Bean
+    public NewTopic settlementRecordsTopic() {
+        return TopicBuilder.name(SETTLEMENT_RECORDS_TOPIC)
+            .partitions(settlementRecordsPartitions)
+            .replicas(replicationFactor)
+            .build();
+    }
+
+    // 정산 리스너에서 처리하지 못한 레코드 (KafkaConsumerProperties.settlementsErrorHandler). 원본 토픽과 같은 key 로 파티셔닝
+    @Bean
+    public NewTopic settlementRecordsDeadLetterTopic() {
+        return TopicBuilder.name(SETTLEMENT_RECORDS_TOPIC + ".DLT")
+            .partitions(settlementRecordsPartitions)
+            .replicas(replicationFactor)
+            .build();
+    }
+
+    @Bean
+    public NewTopic settlementsDeadLetterTopic() {
+        return TopicBuilder.name("settlements.DLT")
+            .partitions(settlementRecordsPartitions)
+            .replicas(replicationFactor)
+            .build();
+    }
+
     @Bean
     public KafkaOperations<String, Object> kafkaOperations() {
         return kafkaTemplate();
     }
 
+    // outbox 이벤트 전송용 (JSON). 유실/중복 방지를 위해 acks=all + idempotence, linger 로 배치 전송
+    @Bean
+    public ProducerFactory<String, Object> outboxProducerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, String.join(",", bootstrapServers));
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, 65_536);
+
+        return new DefaultKafkaProducerFactory<>(config);
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(outboxProducerFactory());
+    }
+
 }
\ No newline at end of file
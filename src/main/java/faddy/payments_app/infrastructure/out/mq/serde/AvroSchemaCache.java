@@ -0,0 +1,57 @@
+package faddy.payments_app.infrastructure.out.mq.serde;
+
+import faddy.payments_app.infrastructure.out.mq.record$.RPaymentSettlements;
+import faddy.payments_app.infrastructure.out.mq.record$.SettlementRecord;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.message.SchemaStore;
+
+/**
+ * 로컬 Avro 스키마 캐시 (fingerprint -> schema)
+ *
+ * <p>src/main/avro 의 스키마로 생성된 클래스들을 클래스 로딩 시점에 미리 등록한다.
+ * 메시지에는 스키마 fingerprint(CRC-64-AVRO) 만 실리고, 직렬화/역직렬화는 이 캐시에서만 스키마를 찾으므로
+ * 스키마 레지스트리로의 네트워크 호출이 없다.
+ * 이전 버전 스키마로 쓰인 메시지를 읽어야 하면 {@link #register} 로 해당 스키마를 추가한다.
+ */
+public final class AvroSchemaCache implements SchemaStore {
+
+    private static final AvroSchemaCache INSTANCE = new AvroSchemaCache(
+        SettlementRecord.getClassSchema(),
+        RPaymentSettlements.getClassSchema());
+
+    private final Map<Long, Schema> byFingerprint = new ConcurrentHashMap<>();
+    private final Map<Schema, Long> fingerprints = new ConcurrentHashMap<>();
+
+    private AvroSchemaCache(Schema... schemas) {
+        for (Schema schema : schemas) {
+            register(schema);
+        }
+    }
+
+    public static AvroSchemaCache getInstance() {
+        return INSTANCE;
+    }
+
+    public long register(Schema schema) {
+        long fingerprint = fingerprint(schema);
+        byFingerprint.putIfAbsent(fingerprint, schema);
+        return fingerprint;
+    }
+
+    // 캐시에 없는 스키마면 등록 후 반환 (생성 클래스가 아닌 스키마로 쓰는 경우도 수신 측에서 찾을 수 있도록)
+    public long fingerprint(Schema schema) {
+        return fingerprints.computeIfAbsent(schema, s -> {
+            long fingerprint = SchemaNormalization.parsingFingerprint64(s);
+            byFingerprint.putIfAbsent(fingerprint, s);
+            return fingerprint;
+        });
+    }
+
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        return byFingerprint.get(fingerprint);
+    }
+}
@@ -0,0 +1,80 @@
+package faddy.payments_app.infrastructure.out.mq.serde;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Avro single-object encoding -> SpecificRecord ({@link AvroSingleObjectSerializer} 로 쓴 메시지 전용)
+ *
+ * <p>헤더의 fingerprint 로 {@link AvroSchemaCache} 에서 writer 스키마를 찾는다. 캐시에 없으면 레지스트리 조회 없이 실패한다.
+ * 타입을 지정하면 해당 클래스 스키마를 reader 스키마로 써서 이전 버전 writer 스키마와도 호환 변환하고,
+ * 기본 생성자(설정의 클래스명으로 생성)는 writer 스키마의 생성 클래스로 읽는다.
+ *
+ * <p>Deserializer 인스턴스는 컨슈머 스레드 하나에서만 쓰이므로 BinaryDecoder 와 reader 캐시를 동기화 없이 재사용한다.
+ */
+public class AvroSingleObjectDeserializer<T extends SpecificRecord> implements Deserializer<T> {
+
+    private final AvroSchemaCache schemaCache = AvroSchemaCache.getInstance();
+    private final Schema readerSchema;
+    private final Map<Long, SpecificDatumReader<T>> readers = new HashMap<>();
+    private BinaryDecoder decoder;
+
+    public AvroSingleObjectDeserializer() {
+        this.readerSchema = null;
+    }
+
+    public AvroSingleObjectDeserializer(Class<T> type) {
+        this.readerSchema = SpecificData.get().getSchema(type);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < AvroSingleObjectSerializer.HEADER_LENGTH
+            || data[0] != AvroSingleObjectSerializer.MARKER_0 || data[1] != AvroSingleObjectSerializer.MARKER_1) {
+            throw new SerializationException("Not an Avro single-object message for topic " + topic);
+        }
+
+        SpecificDatumReader<T> reader = readerFor(readFingerprint(data), topic);
+        decoder = DecoderFactory.get().binaryDecoder(data, AvroSingleObjectSerializer.HEADER_LENGTH,
+            data.length - AvroSingleObjectSerializer.HEADER_LENGTH, decoder);
+        try {
+            return reader.read(null, decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Avro deserialization failed for topic " + topic, e);
+        }
+    }
+
+    private SpecificDatumReader<T> readerFor(long fingerprint, String topic) {
+        SpecificDatumReader<T> reader = readers.get(fingerprint);
+        if (reader == null) {
+            Schema writerSchema = schemaCache.findByFingerprint(fingerprint);
+            if (writerSchema == null) {
+                throw new SerializationException("Unknown Avro schema fingerprint " + Long.toHexString(fingerprint)
+                    + " for topic " + topic);
+            }
+            reader = new SpecificDatumReader<>(writerSchema, readerSchema == null ? writerSchema : readerSchema);
+            readers.put(fingerprint, reader);
+        }
+        return reader;
+    }
+
+    private static long readFingerprint(byte[] data) {
+        long fingerprint = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            fingerprint |= (data[2 + i] & 0xFFL) << (i * 8);
+        }
+        return fingerprint;
+    }
+}
@@ -0,0 +1,76 @@
+package faddy.payments_app.infrastructure.out.mq.serde;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * SpecificRecord -> Avro single-object encoding (스키마 레지스트리 없음)
+ *
+ * <p>메시지 형식 : 0xC3 0x01 + 스키마 fingerprint 8바이트(little-endian) + Avro 바이너리.
+ * fingerprint 는 {@link AvroSchemaCache} 에서 가져오므로 전송 경로에 네트워크 호출이 없다.
+ * 생성 클래스의 {@code fromByteBuffer} 로도 그대로 읽을 수 있는 표준 형식이다.
+ *
+ * <p>DatumWriter 는 스키마별로 한 번만 만들고, 출력 버퍼와 BinaryEncoder 는 스레드별로 재사용한다.
+ * Kafka Serializer 계약상 byte[] 를 돌려줘야 하므로 버퍼 -> byte[] 복사 1회는 남는다.
+ */
+public class AvroSingleObjectSerializer implements Serializer<SpecificRecord> {
+
+    static final byte MARKER_0 = (byte) 0xC3;
+    static final byte MARKER_1 = (byte) 0x01;
+    static final int HEADER_LENGTH = 10;
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final AvroSchemaCache schemaCache = AvroSchemaCache.getInstance();
+    private final Map<Schema, DatumWriter<SpecificRecord>> writers = new ConcurrentHashMap<>();
+    private final ThreadLocal<ReusableBuffer> buffers = ThreadLocal.withInitial(ReusableBuffer::new);
+
+    @Override
+    public byte[] serialize(String topic, SpecificRecord record) {
+        if (record == null) {
+            return null;
+        }
+
+        Schema schema = record.getSchema();
+        ReusableBuffer buffer = buffers.get();
+        buffer.out.reset();
+        writeHeader(buffer.out, schemaCache.fingerprint(schema));
+        buffer.encoder = EncoderFactory.get().binaryEncoder(buffer.out, buffer.encoder);
+        try {
+            writerFor(schema).write(record, buffer.encoder);
+            buffer.encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Avro serialization failed for topic " + topic, e);
+        }
+        return buffer.out.toByteArray();
+    }
+
+    private static void writeHeader(ByteArrayOutputStream out, long fingerprint) {
+        out.write(MARKER_0);
+        out.write(MARKER_1);
+        for (int i = 0; i < Long.BYTES; i++) {
+            out.write((int) (fingerprint >>> (i * 8)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private DatumWriter<SpecificRecord> writerFor(Schema schema) {
+        return writers.computeIfAbsent(schema,
+            s -> (DatumWriter<SpecificRecord>) SpecificData.getForSchema(s).createDatumWriter(s));
+    }
+
+    private static final class ReusableBuffer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        private BinaryEncoder encoder;
+    }
+}
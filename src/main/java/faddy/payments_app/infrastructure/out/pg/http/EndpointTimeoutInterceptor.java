@@ -0,0 +1,35 @@
+package faddy.payments_app.infrastructure.out.pg.http;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import retrofit2.Invocation;
+
+/**
+ * 엔드포인트(Retrofit 메서드)별 read/write 타임아웃
+ * 승인/취소처럼 지연이 짧아야 하는 호출은 공용 readTimeout(60s) 대신 짧은 값을 적용한다.
+ */
+@RequiredArgsConstructor
+public class EndpointTimeoutInterceptor implements Interceptor {
+
+    private final Map<String, Long> endpointTimeoutMillis;
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Invocation invocation = request.tag(Invocation.class);
+        Long timeoutMillis = invocation == null ? null : endpointTimeoutMillis.get(invocation.method().getName());
+
+        if (timeoutMillis == null) {
+            return chain.proceed(request);
+        }
+        return chain
+            .withReadTimeout(timeoutMillis.intValue(), TimeUnit.MILLISECONDS)
+            .withWriteTimeout(timeoutMillis.intValue(), TimeUnit.MILLISECONDS)
+            .proceed(request);
+    }
+}
@@ -0,0 +1,35 @@
+package faddy.payments_app.infrastructure.out.pg.http;
+
+import faddy.payments_app.representation.request.payment.IdempotentRequest;
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.stereotype.Component;
+import retrofit2.Invocation;
+
+/**
+ * Retrofit 메서드 인자 중 {@link IdempotentRequest} 가 있으면 Idempotency-Key 헤더를 추가
+ */
+@Component
+public class IdempotencyKeyInterceptor implements Interceptor {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Invocation invocation = request.tag(Invocation.class);
+        if (invocation == null || request.header(IDEMPOTENCY_KEY_HEADER) != null) {
+            return chain.proceed(request);
+        }
+
+        for (Object argument : invocation.arguments()) {
+            if (argument instanceof IdempotentRequest idempotentRequest) {
+                return chain.proceed(request.newBuilder()
+                    .header(IDEMPOTENCY_KEY_HEADER, idempotentRequest.idempotencyKey())
+                    .build());
+            }
+        }
+        return chain.proceed(request);
+    }
+}
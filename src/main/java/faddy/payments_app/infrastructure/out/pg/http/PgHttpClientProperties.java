@@ -0,0 +1,84 @@
+package faddy.payments_app.infrastructure.out.pg.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * PG 공용 HTTP 클라이언트 설정
+ *
+ * <p>토스/목 PG 클라이언트는 pgOkHttpClient 를 newBuilder() 로 확장해 사용하므로
+ * 커넥션 풀과 Dispatcher(동시 요청 한도)를 공유한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "pg.http")
+@Setter
+@Getter
+public class PgHttpClientProperties {
+    private int maxIdleConnections = 50;
+    private long keepAliveSeconds = 300;
+    // OkHttp 기본값(64 / 호스트당 5)은 단일 PG 호스트에 대해 너무 작다
+    private int maxRequests = 256;
+    private int maxRequestsPerHost = 64;
+    private boolean http2Enabled = true;
+    private long connectTimeoutMillis = 20_000;
+    private long writeTimeoutMillis = 60_000;
+    private long readTimeoutMillis = 60_000;
+    // Retrofit 메서드명 -> read/write 타임아웃 (없으면 readTimeoutMillis)
+    private Map<String, Long> endpointTimeoutMillis = new HashMap<>(Map.of(
+        "paymentFullfill", 10_000L,
+        "paymentCancel", 10_000L,
+        "paymentByOrderId", 5_000L
+    ));
+
+    @Bean
+    public ConnectionPool pgConnectionPool() {
+        return new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS);
+    }
+
+    @Bean
+    public Dispatcher pgDispatcher(Environment environment) {
+        // virtual-threads 프로필(JDK 21 이상)에서는 enqueue 콜백을 가상 스레드에서 실행
+        Dispatcher dispatcher = Threading.VIRTUAL.isActive(environment)
+            ? new Dispatcher(new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new VirtualThreadTaskExecutor("pg-okhttp-").getVirtualThreadFactory()))
+            : new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        return dispatcher;
+    }
+
+    @Bean
+    public OkHttpClient pgOkHttpClient(ConnectionPool pgConnectionPool, Dispatcher pgDispatcher, PgHttpMetrics pgHttpMetrics,
+        IdempotencyKeyInterceptor idempotencyKeyInterceptor) {
+        pgHttpMetrics.bind(pgConnectionPool, pgDispatcher);
+
+        return new OkHttpClient.Builder()
+            .connectionPool(pgConnectionPool)
+            .dispatcher(pgDispatcher)
+            .protocols(http2Enabled ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+            .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+            .writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS)
+            .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+            .eventListenerFactory(pgHttpMetrics.eventListenerFactory())
+            .addInterceptor(pgHttpMetrics)
+            .addInterceptor(idempotencyKeyInterceptor)
+            .addInterceptor(new EndpointTimeoutInterceptor(endpointTimeoutMillis))
+            .build();
+    }
+}
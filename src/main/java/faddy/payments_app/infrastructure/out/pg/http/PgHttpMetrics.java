@@ -0,0 +1,84 @@
+package faddy.payments_app.infrastructure.out.pg.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.stereotype.Component;
+import retrofit2.Invocation;
+
+/**
+ * PG HTTP 클라이언트 지표
+ *
+ * <p>- pg.http.client.requests : 엔드포인트(Retrofit 메서드)별 호출 지연, 태그 host / endpoint / status
+ * <p>- pg.http.dispatcher.queued / running : Dispatcher 대기 / 실행 중 호출 수
+ * <p>- pg.http.pool.connections / idle : 커넥션 풀 크기
+ * <p>- pg.http.connections.acquired / created : 획득한 커넥션 중 신규 연결 수 (차이가 재사용 수)
+ */
+@Component
+@RequiredArgsConstructor
+public class PgHttpMetrics implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public void bind(ConnectionPool connectionPool, Dispatcher dispatcher) {
+        Gauge.builder("pg.http.dispatcher.queued", dispatcher, Dispatcher::queuedCallsCount).register(meterRegistry);
+        Gauge.builder("pg.http.dispatcher.running", dispatcher, Dispatcher::runningCallsCount).register(meterRegistry);
+        Gauge.builder("pg.http.pool.connections", connectionPool, ConnectionPool::connectionCount).register(meterRegistry);
+        Gauge.builder("pg.http.pool.idle", connectionPool, ConnectionPool::idleConnectionCount).register(meterRegistry);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            Response response = chain.proceed(request);
+            status = String.valueOf(response.code());
+            return response;
+        } finally {
+            sample.stop(Timer.builder("pg.http.client.requests")
+                .tag("host", request.url().host())
+                .tag("endpoint", endpointOf(request))
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    public EventListener.Factory eventListenerFactory() {
+        Counter acquired = meterRegistry.counter("pg.http.connections.acquired");
+        Counter created = meterRegistry.counter("pg.http.connections.created");
+
+        EventListener listener = new EventListener() {
+            @Override
+            public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+                created.increment();
+            }
+
+            @Override
+            public void connectionAcquired(Call call, Connection connection) {
+                acquired.increment();
+            }
+        };
+        return call -> listener;
+    }
+
+    private String endpointOf(Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        return invocation == null ? "unknown" : invocation.method().getName();
+    }
+}
@@ -8,8 +8,11 @@ import faddy.payments_app.representation.request.payment.PaymentApproved;
 import faddy.payments_app.representation.request.payment.PaymentCancel;
 import faddy.payments_app.representation.request.payment.PaymentSettlement;
 import java.io.IOException;
+import faddy.payments_app.infrastructure.out.pg.toss.SettlementsPageReader;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import okhttp3.ResponseBody;
 import org.springframework.stereotype.Component;
 import retrofit2.Response;
 
@@ -18,6 +21,7 @@ import retrofit2.Response;
 public class MockTossPayment implements PaymentAPIs {
 
     private final MockTossPaymentAPIs mockTossClient;
+    private final SettlementsPageReader settlementsPageReader;
 
     @Override
     public ResponsePaymentApproved requestPaymentApprove(PaymentApproved paymentInfo)
@@ -30,6 +34,11 @@ public class MockTossPayment implements PaymentAPIs {
         return "DONE".equalsIgnoreCase(status);
     }
 
+    @Override
+    public ResponsePaymentApproved requestPaymentByOrderId(String orderId) throws IOException {
+        return null;
+    }
+
     @Override
     public ResponsePaymentCancel requestPaymentCancel(String paymentKey,
         PaymentCancel cancelMessage) throws IOException {
@@ -51,5 +60,24 @@ public class MockTossPayment implements PaymentAPIs {
         throw new IOException(response.message());
     }
 
+    @Override
+    public int streamPaymentSettlement(PaymentSettlement paymentSettlement, int chunkSize,
+        Consumer<List<ResponsePaymentSettlements>> chunkConsumer) throws IOException {
+        // mock 서버는 페이지 파라미터를 무시하고 항상 같은 목록을 돌려주므로 첫 페이지만 읽는다
+        if (paymentSettlement.getPage() > 1) {
+            return 0;
+        }
+
+        Response<ResponseBody> response = mockTossClient.paymentSettlementsStream(paymentSettlement.getStartDate(),
+            paymentSettlement.getEndDate(), paymentSettlement.getPage(), paymentSettlement.getSize()).execute();
+
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IOException(response.message());
+        }
+
+        try (ResponseBody body = response.body()) {
+            return settlementsPageReader.read(body.byteStream(), chunkSize, chunkConsumer);
+        }
+    }
 
 }
\ No newline at end of file
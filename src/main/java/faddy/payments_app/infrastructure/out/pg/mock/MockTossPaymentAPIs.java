@@ -2,10 +2,20 @@ package faddy.payments_app.infrastructure.out.pg.mock;
 
 import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
 import java.util.List;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.GET;
+import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 
 public interface MockTossPaymentAPIs {
     @GET("settlements")
     Call<List<ResponsePaymentSettlements>> paymentSettlements();
+
+    @Streaming
+    @GET("settlements")
+    Call<ResponseBody> paymentSettlementsStream(@Query("startDate") String startDate,
+        @Query("endDate") String endDate,
+        @Query("page") int page,
+        @Query("size") int size);
 }
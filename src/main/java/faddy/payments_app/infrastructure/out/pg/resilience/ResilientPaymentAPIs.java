@@ -0,0 +1,125 @@
+package faddy.payments_app.infrastructure.out.pg.resilience;
+
+import faddy.payments_app.application.port.out.api.PaymentAPIs;
+import faddy.payments_app.application.port.out.api.PgUnavailableException;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.representation.request.payment.PaymentApproved;
+import faddy.payments_app.representation.request.payment.PaymentCancel;
+import faddy.payments_app.representation.request.payment.PaymentSettlement;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * PG 호출 보호 계층 (PaymentAPIs 데코레이터)
+ *
+ * <p>PG 장애 시 호출 스레드가 타임아웃까지 쌓이지 않도록 아래 순서로 감싼다.
+ * Retry( CircuitBreaker( Bulkhead( PG 호출 ) ) )
+ * - CircuitBreaker : 엔드포인트별 (tossConfirm / tossCancel / tossPaymentLookup / tossSettlements)
+ * - Bulkhead : 세마포어 기반, 동시에 진행 중인 PG 호출 수 제한 (정산 스트리밍 제외)
+ * - Retry : Idempotency-Key 가 붙는 승인/취소와 조회만 재시도, PG 가 거절한 요청(408 / 429 를 제외한 4xx)은 재시도하지 않는다
+ *
+ * <p>circuit open / bulkhead full 은 PG 를 호출하지 않고 즉시 {@link PgUnavailableException} 으로 실패한다.
+ * 설정은 application.yml 의 resilience4j.*
+ *
+ * @see faddy.payments_app.infrastructure.out.pg.http.IdempotencyKeyInterceptor
+ * @see faddy.payments_app.infrastructure.out.pg.http.EndpointTimeoutInterceptor 엔드포인트별 타임아웃
+ */
+@Primary
+@Component("resilientTossPayment")
+public class ResilientPaymentAPIs implements PaymentAPIs {
+
+    private static final String CONFIRM = "tossConfirm";
+    private static final String CANCEL = "tossCancel";
+    private static final String PAYMENT_LOOKUP = "tossPaymentLookup";
+    private static final String SETTLEMENTS = "tossSettlements";
+    private static final String PG_BULKHEAD = "tossPg";
+    private static final String IDEMPOTENT_RETRY = "tossIdempotent";
+
+    private final PaymentAPIs delegate;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+
+    public ResilientPaymentAPIs(@Qualifier("tossPayment") PaymentAPIs delegate,
+        CircuitBreakerRegistry circuitBreakerRegistry,
+        BulkheadRegistry bulkheadRegistry,
+        RetryRegistry retryRegistry) {
+        this.delegate = delegate;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkhead = bulkheadRegistry.bulkhead(PG_BULKHEAD);
+        this.retry = retryRegistry.retry(IDEMPOTENT_RETRY);
+    }
+
+    @Override
+    public ResponsePaymentApproved requestPaymentApprove(PaymentApproved requestMessage) throws IOException {
+        return executeIdempotent(CONFIRM, () -> delegate.requestPaymentApprove(requestMessage));
+    }
+
+    @Override
+    public boolean isPaymentApproved(String status) {
+        return delegate.isPaymentApproved(status);
+    }
+
+    @Override
+    public ResponsePaymentApproved requestPaymentByOrderId(String orderId) throws IOException {
+        return executeIdempotent(PAYMENT_LOOKUP, () -> delegate.requestPaymentByOrderId(orderId));
+    }
+
+    @Override
+    public ResponsePaymentCancel requestPaymentCancel(String paymentKey, PaymentCancel cancelMessage)
+        throws IOException {
+        return executeIdempotent(CANCEL, () -> delegate.requestPaymentCancel(paymentKey, cancelMessage));
+    }
+
+    @Override
+    public List<ResponsePaymentSettlements> requestPaymentSettlement(PaymentSettlement paymentSettlement)
+        throws IOException {
+        return execute(CircuitBreaker.decorateCheckedSupplier(circuitBreaker(SETTLEMENTS),
+            () -> delegate.requestPaymentSettlement(paymentSettlement)));
+    }
+
+    // chunkConsumer 가 부수효과(DB 저장)를 가지므로 재시도하지 않고, 장시간 호출이라 bulkhead 도 적용하지 않는다
+    @Override
+    public int streamPaymentSettlement(PaymentSettlement paymentSettlement, int chunkSize,
+        Consumer<List<ResponsePaymentSettlements>> chunkConsumer) throws IOException {
+        return execute(CircuitBreaker.decorateCheckedSupplier(circuitBreaker(SETTLEMENTS),
+            () -> delegate.streamPaymentSettlement(paymentSettlement, chunkSize, chunkConsumer)));
+    }
+
+    private <T> T executeIdempotent(String circuitBreakerName, CheckedSupplier<T> call) throws IOException {
+        CheckedSupplier<T> bulkheaded = Bulkhead.decorateCheckedSupplier(bulkhead, call);
+        CheckedSupplier<T> guarded = CircuitBreaker.decorateCheckedSupplier(circuitBreaker(circuitBreakerName), bulkheaded);
+        return execute(Retry.decorateCheckedSupplier(retry, guarded));
+    }
+
+    private CircuitBreaker circuitBreaker(String name) {
+        return circuitBreakerRegistry.circuitBreaker(name);
+    }
+
+    private <T> T execute(CheckedSupplier<T> supplier) throws IOException {
+        try {
+            return supplier.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new PgUnavailableException(e.getMessage(), e);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IOException(t);
+        }
+    }
+}
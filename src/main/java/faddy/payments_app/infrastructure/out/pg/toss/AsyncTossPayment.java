@@ -0,0 +1,86 @@
+package faddy.payments_app.infrastructure.out.pg.toss;
+
+import faddy.payments_app.application.port.out.api.AsyncPaymentAPIs;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.representation.request.payment.PaymentApproved;
+import faddy.payments_app.representation.request.payment.PaymentCancel;
+import faddy.payments_app.representation.request.payment.PaymentSettlement;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * 토스 페이먼츠 API 비동기 호출 구현체
+ *
+ * <p>{@link TossPayment}와 같은 API를 Retrofit {@code Call.enqueue}로 호출한다.
+ * 호출 스레드는 PG 응답을 기다리지 않고, 응답은 OkHttp Dispatcher 스레드에서 CompletableFuture 로 완료된다.
+ * 실패 응답은 동기 구현과 동일하게 errorBody 를 담은 IOException(408 / 429 를 제외한 4xx 는 PaymentRejectedException) 으로 완료된다.
+ *
+ * @see AsyncPaymentAPIs 비동기 결제 처리 인터페이스
+ * @see TossApiClientConfig Dispatcher 설정
+ */
+
+@Component("asyncTossPayment")
+@RequiredArgsConstructor
+public class AsyncTossPayment implements AsyncPaymentAPIs {
+
+    private final TossPaymentAPIs tossClient;
+
+    @Override
+    public CompletableFuture<ResponsePaymentApproved> requestPaymentApproveAsync(PaymentApproved paymentInfo) {
+        return enqueue(tossClient.paymentFullfill(paymentInfo));
+    }
+
+    @Override
+    public CompletableFuture<ResponsePaymentCancel> requestPaymentCancelAsync(String paymentKey,
+        PaymentCancel cancelMessage) {
+        return enqueue(tossClient.paymentCancel(paymentKey, cancelMessage));
+    }
+
+    @Override
+    public CompletableFuture<List<ResponsePaymentSettlements>> requestPaymentSettlementAsync(
+        PaymentSettlement paymentSettlement) {
+        return enqueue(tossClient.paymentSettlements(paymentSettlement.getStartDate(),
+            paymentSettlement.getEndDate(), paymentSettlement.getPage(), paymentSettlement.getSize()));
+    }
+
+    private <T> CompletableFuture<T> enqueue(Call<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        // 호출 측에서 future 를 취소하면 진행 중인 HTTP 요청도 함께 취소
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        call.enqueue(new Callback<>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                if (response.isSuccessful()) {
+                    future.complete(response.body());
+                    return;
+                }
+
+                try {
+                    future.completeExceptionally(TossPayment.toException(response));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+
+        return future;
+    }
+}
@@ -0,0 +1,60 @@
+package faddy.payments_app.infrastructure.out.pg.toss;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정산 조회 응답(JSON 배열)을 스트리밍으로 파싱
+ *
+ * <p>한 페이지 전체를 {@code List}로 역직렬화하지 않고 JsonParser 로 원소를 하나씩 읽어
+ * chunkSize 단위로 묶어 전달한다. 메모리에는 최대 한 chunk 만 유지된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementsPageReader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param body 정산 조회 응답 본문
+     * @param chunkSize 한 번에 전달할 정산 건수
+     * @param chunkConsumer chunk 단위 처리기
+     * @return 해당 페이지에서 읽은 전체 정산 건수
+     * @throws IOException 응답이 JSON 배열이 아니거나 파싱에 실패한 경우
+     */
+    public int read(InputStream body, int chunkSize,
+        Consumer<List<ResponsePaymentSettlements>> chunkConsumer) throws IOException {
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Settlements response is not a JSON array");
+            }
+
+            List<ResponsePaymentSettlements> chunk = new ArrayList<>(chunkSize);
+            int count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(objectMapper.readValue(parser, ResponsePaymentSettlements.class));
+                count++;
+
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+            return count;
+        }
+    }
+}
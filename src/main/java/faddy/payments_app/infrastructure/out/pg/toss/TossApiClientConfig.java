@@ -1,35 +1,38 @@
 package faddy.payments_app.infrastructure.out.pg.toss;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import retrofit2.Retrofit;
 import retrofit2.converter.jackson.JacksonConverterFactory;
 
 @Configuration
+@ConfigurationProperties(prefix = "pg.toss")
+@Setter
+@Getter
 @Slf4j
 public class TossApiClientConfig {
-    private static final String BASE_URL = "Https://api.tosspayments.com/v1/";
     private static final String SECRET_KEY = "test_gsk_docs_OaPz8L5KdmQXkzRz3y47BMw6:"; // 테스팅 키
 
+    // 부하 테스트에서는 로컬 PG 시뮬레이터 주소로 바꿔 실행 (src/loadTest)
+    private String baseUrl = "https://api.tosspayments.com/v1/";
+
+    // 커넥션 풀 / Dispatcher / 타임아웃 / 지표는 pgOkHttpClient(PgHttpClientProperties) 공유
     @Bean
-    public OkHttpClient okHttpClient() {
+    public OkHttpClient okHttpClient(OkHttpClient pgOkHttpClient) {
         Base64.Encoder encoder = Base64.getEncoder();
         byte[] encodedBytes = encoder.encode((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8));
         String authorizations = "Basic " + new String(encodedBytes);
-        log.info("key: {}", authorizations);
 
-        return new OkHttpClient.Builder()
-            .connectTimeout(20, TimeUnit.SECONDS)
-            .writeTimeout(60, TimeUnit.SECONDS)
-            .readTimeout(60, TimeUnit.SECONDS)
+        return pgOkHttpClient.newBuilder()
             .addInterceptor(chain -> {
                 Request request = chain.request().newBuilder()
                     .addHeader("Authorization", authorizations).build();
@@ -38,13 +41,11 @@ public class TossApiClientConfig {
             .build();
     }
 
+    // 공용 ObjectMapper (JacksonConfig) 사용
     @Bean
-    public Retrofit retrofit(OkHttpClient okHttpClient) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-
+    public Retrofit retrofit(OkHttpClient okHttpClient, ObjectMapper objectMapper) {
         return new Retrofit.Builder()
-            .baseUrl(BASE_URL)
+            .baseUrl(baseUrl)
             .addConverterFactory(JacksonConverterFactory.create(objectMapper))
             .client(okHttpClient)
             .build();
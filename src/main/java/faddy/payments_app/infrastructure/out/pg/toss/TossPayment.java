@@ -1,6 +1,8 @@
 package faddy.payments_app.infrastructure.out.pg.toss;
 
 import faddy.payments_app.application.port.out.api.PaymentAPIs;
+import faddy.payments_app.application.port.out.api.PaymentNotFoundException;
+import faddy.payments_app.application.port.out.api.PaymentRejectedException;
 import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
 import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
 import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
@@ -11,7 +13,9 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import okhttp3.ResponseBody;
 import org.springframework.stereotype.Component;
 import retrofit2.Response;
 
@@ -21,8 +25,10 @@ import retrofit2.Response;
  * <p>이 클래스는 토스 페이먼츠 PG와의 통신을 담당하며 결제 관련 주요 기능을 제공
  * - 결제 승인 요청: {@link #requestPaymentApprove(PaymentApproved)}
  * - 결제 상태 확인: {@link #isPaymentApproved(String)}
+ * - 주문번호로 결제 조회: {@link #requestPaymentByOrderId(String)}
  * - 결제 취소 요청: {@link #requestPaymentCancel(String, PaymentCancel)}
  * - 정산 정보 조회: {@link #requestPaymentSettlement(PaymentSettlement paymentSettlement)}
+ * - 정산 정보 스트리밍 조회: {@link #streamPaymentSettlement(PaymentSettlement, int, Consumer)}
  *
  *
  * @see PaymentAPIs 결제 처리 인터페이스
@@ -33,7 +39,12 @@ import retrofit2.Response;
 @RequiredArgsConstructor
 public class TossPayment implements PaymentAPIs {
 
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_REQUEST_TIMEOUT = 408;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
     private final TossPaymentAPIs tossClient;
+    private final SettlementsPageReader settlementsPageReader;
 
     /**
      * 결제 승인 요청을 처리
@@ -43,7 +54,8 @@ public class TossPayment implements PaymentAPIs {
      *
      * @param paymentInfo 결제 승인에 필요한 정보 (주문번호, 금액 등)
      * @return 결제 승인 응답 정보 (paymentKey, 결제 상태 등)
-     * @throws IOException API 호출 실패 또는 결제 승인 실패 시 발생
+     * @throws PaymentRejectedException PG 가 승인을 거절한 경우 (408, 429 를 제외한 4xx)
+     * @throws IOException API 호출 실패 등 승인 결과를 알 수 없는 경우 발생
      */
 
     @Override
@@ -56,7 +68,7 @@ public class TossPayment implements PaymentAPIs {
             return response.body();
         }
 
-        throw new IOException(response.errorBody().string());
+        throw toException(response);
     }
 
     /**
@@ -73,6 +85,29 @@ public class TossPayment implements PaymentAPIs {
         return "DONE".equalsIgnoreCase(status);
     }
 
+    /**
+     * 주문번호로 결제 정보를 조회
+     *
+     * 승인 요청의 결과를 알 수 없는 경우(타임아웃 등) PG 에 실제 승인 여부를 확인하는 데 사용
+     *
+     * @param orderId 결제 요청 시 전달한 주문번호
+     * @return 결제 정보 (status 로 승인 여부 확인)
+     * @throws PaymentNotFoundException 해당 주문의 결제가 없는 경우 (404)
+     * @throws PaymentRejectedException 그 외 PG 가 거절한 경우 (401, 403 등, 결제 존재 여부는 알 수 없음)
+     * @throws IOException API 호출 실패 시 발생
+     */
+
+    @Override
+    public ResponsePaymentApproved requestPaymentByOrderId(String orderId) throws IOException {
+        Response<ResponsePaymentApproved> response = tossClient.paymentByOrderId(orderId).execute();
+
+        if(response.isSuccessful()) {
+            return response.body();
+        }
+
+        throw toException(response);
+    }
+
     /**
      * 결제 취소 요청을 처리
      *
@@ -122,4 +157,48 @@ public class TossPayment implements PaymentAPIs {
         throw new IOException(response.message());
     }
 
+    /**
+     * 정산 정보를 한 페이지 단위로 스트리밍 조회
+     *
+     * 응답 본문을 전부 메모리에 올리지 않고 파싱하면서 chunkSize 단위로 chunkConsumer 에 전달
+     * 반환 값이 요청한 size 보다 작으면 마지막 페이지
+     *
+     * @param paymentSettlement 조회 기간 및 페이지 정보
+     * @param chunkSize chunkConsumer 에 한 번에 전달할 정산 건수
+     * @param chunkConsumer chunk 단위 처리기
+     * @return 해당 페이지에서 읽은 정산 건수
+     * @throws IOException API 호출 실패 또는 응답 파싱 실패 시 발생
+     */
+
+    @Override
+    public int streamPaymentSettlement(PaymentSettlement paymentSettlement, int chunkSize,
+        Consumer<List<ResponsePaymentSettlements>> chunkConsumer) throws IOException {
+
+        Response<ResponseBody> response = tossClient.paymentSettlementsStream(paymentSettlement.getStartDate(),
+            paymentSettlement.getEndDate(), paymentSettlement.getPage(), paymentSettlement.getSize()).execute();
+
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IOException(response.message());
+        }
+
+        try (ResponseBody body = response.body()) {
+            return settlementsPageReader.read(body.byteStream(), chunkSize, chunkConsumer);
+        }
+    }
+
+    // 4xx 는 PG 가 확정적으로 거절한 요청, 그 외는 결과를 알 수 없는 실패
+    // 408 / 429 는 PG 가 요청을 처리했는지 알 수 없으므로 거절로 보지 않는다 (원복하지 않고 조회로 확정)
+    static IOException toException(Response<?> response) throws IOException {
+        String errorBody = response.errorBody() == null ? response.message() : response.errorBody().string();
+
+        int code = response.code();
+        if (code == HTTP_NOT_FOUND) {
+            return new PaymentNotFoundException(errorBody);
+        }
+        if (code >= 400 && code < 500 && code != HTTP_REQUEST_TIMEOUT && code != HTTP_TOO_MANY_REQUESTS) {
+            return new PaymentRejectedException(errorBody);
+        }
+        return new IOException(errorBody);
+    }
+
 }
\ No newline at end of file
@@ -6,22 +6,36 @@ import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSet
 import faddy.payments_app.representation.request.payment.PaymentApproved;
 import faddy.payments_app.representation.request.payment.PaymentCancel;
 import java.util.List;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.GET;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
+import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 
 public interface TossPaymentAPIs {
     @POST("payments/confirm")
     Call<ResponsePaymentApproved> paymentFullfill(@Body PaymentApproved requestMessage);
 
+    @GET("payments/orders/{orderId}")
+    Call<ResponsePaymentApproved> paymentByOrderId(@Path("orderId") String orderId);
+
     @POST("payments/{paymentKey}/cancel")
     Call<ResponsePaymentCancel> paymentCancel(@Path("paymentKey") String paymentKey, @Body PaymentCancel requestMessage);
 
     @GET("settlements")
-    Call<List<ResponsePaymentSettlements>> paymentSettlements(@Path("startDate") String startDate,
-        @Path("endDate") String endDate,
-        @Path("page") int page,
-        @Path("size") int size);
-}
\ No newline at end of file
+    Call<List<ResponsePaymentSettlements>> paymentSettlements(@Query("startDate") String startDate,
+        @Query("endDate") String endDate,
+        @Query("page") int page,
+        @Query("size") int size);
+
+    // 응답 본문을 메모리에 올리지 않고 스트림으로 받는다 (SettlementsPageReader 에서 파싱)
+    @Streaming
+    @GET("settlements")
+    Call<ResponseBody> paymentSettlementsStream(@Query("startDate") String startDate,
+        @Query("endDate") String endDate,
+        @Query("page") int page,
+        @Query("size") int size);
+}
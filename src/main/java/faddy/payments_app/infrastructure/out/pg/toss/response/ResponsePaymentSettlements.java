@@ -32,7 +32,8 @@ public class ResponsePaymentSettlements {
     private String soldDate;
     private String paidOutDate;
 
-    private PaymentStatus converterToEntityAttribute() {
+    // 카드 매입 상태 -> 정산 상태
+    public PaymentStatus toSettlementStatus() {
         switch (card.getAcquireStatus()) {
             case "READY":
             case "REQUESTED":
@@ -51,7 +52,7 @@ public class ResponsePaymentSettlements {
     public PaymentSettlements toEntity() {
         return PaymentSettlements.builder()
             .paymentKey(paymentKey)
-            .paymentStatus(this.converterToEntityAttribute())
+            .paymentStatus(this.toSettlementStatus())
             .method(PaymentMethod.fromMethodName(method))
             .totalAmount(totalAmount)
             .canceledAmount(cancel == null ? 0 : cancel.getCancelAmount())
@@ -0,0 +1,21 @@
+package faddy.payments_app.infrastructure.persistence.bulk;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "bulk-writer")
+@Setter
+@Getter
+public class BulkWriterProperties {
+    // JDBC batch 한 번에 보내는 행 수 (rewriteBatchedStatements=true 면 multi-row INSERT 한 문장)
+    private int batchSize = 1_000;
+    // LOAD DATA LOCAL INFILE 사용 여부 (datasource url 에 allowLoadLocalInfile=true 필요)
+    private boolean loadDataEnabled = false;
+    // 이 행 수 이상일 때만 LOAD DATA 경로 사용
+    private int loadDataThreshold = 50_000;
+    // LOAD DATA 한 문장으로 보내는 행 수
+    private int loadDataChunkSize = 100_000;
+}
@@ -0,0 +1,151 @@
+package faddy.payments_app.infrastructure.persistence.bulk;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * payment_settlements / payment_transaction 대량 적재
+ *
+ * <p>- {@link #batchInsert} : batchSize 단위 JDBC batch. url 에 rewriteBatchedStatements=true 가 있으면
+ *   Connector/J 가 batch 를 multi-row INSERT 로 재작성하여 행마다 왕복하지 않는다.
+ * <p>- {@link #loadData} : LOAD DATA LOCAL INFILE 로 TSV 스트림을 전송 (하루치 이상 대량 적재용).
+ * <p>- {@link #loadDataUpsert} : 임시 테이블에 LOAD DATA 후 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE 로 반영.
+ *   REPLACE 는 기존 행을 지우고 새 id 로 다시 넣으므로 쓰지 않는다 (id 순서로 최신 원장을 찾는 조회가 달라진다).
+ *
+ * 행 → 컬럼 값 변환(columnValues)은 두 경로가 공유하므로 컬럼 순서는 SQL 의 컬럼 목록과 같아야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MySqlBulkWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BulkWriterProperties properties;
+
+    public boolean shouldLoadData(int rowCount) {
+        return properties.isLoadDataEnabled() && rowCount >= properties.getLoadDataThreshold();
+    }
+
+    public <T> void batchInsert(String sqlStatement, List<T> rows, Function<T, Object[]> columnValues) {
+        jdbcTemplate.batchUpdate(sqlStatement, rows, properties.getBatchSize(), (ps, row) -> {
+            Object[] values = columnValues.apply(row);
+            for (int i = 0; i < values.length; i++) {
+                ps.setObject(i + 1, values[i]);
+            }
+        });
+    }
+
+    /**
+     * @param loadDataSql {@code LOAD DATA LOCAL INFILE ... FIELDS TERMINATED BY '\t' LINES TERMINATED BY '\n' (컬럼 목록)}
+     * @return 적재된 행 수
+     */
+    public <T> int loadData(String loadDataSql, List<T> rows, Function<T, Object[]> columnValues) {
+        int loaded = 0;
+        for (int from = 0; from < rows.size(); from += properties.getLoadDataChunkSize()) {
+            List<T> chunk = rows.subList(from, Math.min(from + properties.getLoadDataChunkSize(), rows.size()));
+            byte[] tsv = toTsv(chunk, columnValues);
+
+            loaded += jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    return loadData(statement, loadDataSql, tsv);
+                }
+            });
+        }
+        log.info("load data rows={} loaded={}", rows.size(), loaded);
+        return loaded;
+    }
+
+    /**
+     * batchInsert(INSERT ... ON DUPLICATE KEY UPDATE) 와 같은 결과를 내는 LOAD DATA 경로.
+     * 청크마다 같은 커넥션에서 임시 테이블 생성 -> LOAD DATA -> INSERT ... SELECT -> 임시 테이블 삭제 순으로 실행한다.
+     * 임시 테이블은 인덱스 없이 만들므로 청크 안의 중복 자연키도 batch 경로처럼 뒤의 행이 반영된다.
+     *
+     * @param onDuplicateKeyUpdate {@code ON DUPLICATE KEY UPDATE ...} 절 (upsert SQL 과 공유)
+     * @return INSERT ... SELECT 의 영향 행 수 (MySQL 규칙상 갱신된 행은 2 로 센다)
+     */
+    public <T> int loadDataUpsert(String table, String columns, String onDuplicateKeyUpdate, List<T> rows,
+        Function<T, Object[]> columnValues) {
+        String stagingTable = table + "_staging";
+        String createSql = "CREATE TEMPORARY TABLE " + stagingTable + " SELECT " + columns + " FROM " + table + " LIMIT 0";
+        String loadDataSql = "LOAD DATA LOCAL INFILE '" + stagingTable + ".tsv' INTO TABLE " + stagingTable +
+            " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' (" + columns + ")";
+        String mergeSql = "INSERT INTO " + table + " (" + columns + ") SELECT " + columns + " FROM " + stagingTable +
+            " " + onDuplicateKeyUpdate;
+        String dropSql = "DROP TEMPORARY TABLE IF EXISTS " + stagingTable;
+
+        int affected = 0;
+        for (int from = 0; from < rows.size(); from += properties.getLoadDataChunkSize()) {
+            List<T> chunk = rows.subList(from, Math.min(from + properties.getLoadDataChunkSize(), rows.size()));
+            byte[] tsv = toTsv(chunk, columnValues);
+
+            affected += jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(dropSql);
+                    statement.execute(createSql);
+                    try {
+                        loadData(statement, loadDataSql, tsv);
+                        return statement.executeUpdate(mergeSql);
+                    } finally {
+                        statement.execute(dropSql);
+                    }
+                }
+            });
+        }
+        log.info("load data upsert table={} rows={} affected={}", table, rows.size(), affected);
+        return affected;
+    }
+
+    private static int loadData(Statement statement, String loadDataSql, byte[] tsv) throws SQLException {
+        statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(new ByteArrayInputStream(tsv));
+        return statement.executeUpdate(loadDataSql);
+    }
+
+    private <T> byte[] toTsv(List<T> rows, Function<T, Object[]> columnValues) {
+        StringBuilder line = new StringBuilder(256);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() * 128);
+
+        for (T row : rows) {
+            line.setLength(0);
+            Object[] values = columnValues.apply(row);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append('\t');
+                }
+                appendEscaped(line, values[i]);
+            }
+            line.append('\n');
+            out.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    // LOAD DATA 기본 이스케이프 규칙 (ESCAPED BY '\\')
+    private void appendEscaped(StringBuilder line, Object value) {
+        if (value == null) {
+            line.append("\\N");
+            return;
+        }
+
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> line.append("\\\\");
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                default -> line.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package faddy.payments_app.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import faddy.payments_app.domain.payment.PaymentLedger;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "ledger-cache")
+@Setter
+@Getter
+public class LedgerCacheProperties {
+    // paymentKey 별 최신 원장 최대 건수 (초과 시 오래 사용되지 않은 항목부터 제거)
+    private long maximumSize = 100_000;
+    // 다른 인스턴스에서 기록된 원장이 반영되기까지의 최대 지연
+    private Duration ttl = Duration.ofMinutes(10);
+
+    @Bean
+    public Cache<String, PaymentLedger> ledgerBalanceCache() {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+}
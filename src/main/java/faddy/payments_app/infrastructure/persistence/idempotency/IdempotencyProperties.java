@@ -0,0 +1,32 @@
+package faddy.payments_app.infrastructure.persistence.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+@Setter
+@Getter
+public class IdempotencyProperties {
+    // 메모리 캐시 최대 건수 / 보관 시간 (초과분은 DB 에서 조회)
+    private long cacheMaximumSize = 10_000;
+    private Duration cacheTtl = Duration.ofMinutes(10);
+    // 처리 중(IN_PROGRESS) 기록의 점유 한도 : 서버 중단 등으로 남은 기록은 이후 같은 키로 다시 처리 가능
+    private Duration lockTimeout = Duration.ofMinutes(2);
+    // 완료된 응답 보관 기간
+    private Duration retention = Duration.ofHours(24);
+
+    @Bean
+    public Cache<String, String> idempotencyResponseCache() {
+        return Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheTtl)
+            .build();
+    }
+}
@@ -0,0 +1,17 @@
+package faddy.payments_app.infrastructure.persistence.plan;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "query-plan")
+@Setter
+@Getter
+public class QueryPlanProperties {
+    // 기동 시 주요 조회 쿼리 EXPLAIN (MySQL 전용)
+    private boolean verifyOnStartup = false;
+    // 기대한 인덱스를 사용할 수 없는 쿼리가 있으면 기동 실패
+    private boolean failOnMismatch = false;
+}
@@ -0,0 +1,95 @@
+package faddy.payments_app.infrastructure.persistence.plan;
+
+import faddy.payments_app.domain.order.OrderStatus;
+import faddy.payments_app.domain.payment.PaymentStatus;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 주요 조회 쿼리를 EXPLAIN 해 마이그레이션(db/migration)에서 만든 인덱스를 사용하는지 확인
+ *
+ * <p>query-plan.verify-on-startup=true 일 때만 동작한다 (MySQL).
+ * - key 가 기대 인덱스 : OK
+ * - possible_keys 에만 있음 : 데이터가 적어 옵티마이저가 풀스캔을 고른 경우로 보고 경고만 남긴다
+ * - possible_keys 에도 없음 : 인덱스 누락 (query-plan.fail-on-mismatch=true 면 기동 실패)
+ */
+@Component
+@ConditionalOnProperty(prefix = "query-plan", name = "verify-on-startup", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanVerifier implements ApplicationRunner {
+
+    private static final List<ExplainTarget> TARGETS = List.of(
+        new ExplainTarget("ledger latest by paymentKey",
+            "SELECT * FROM payment_transaction WHERE payment_id = ? ORDER BY id DESC LIMIT 1",
+            new Object[] {"tgen_explain"}, Set.of("idx_payment_transaction_payment_id_id")),
+        new ExplainTarget("ledger history by paymentKey",
+            "SELECT * FROM payment_transaction WHERE payment_id = ?",
+            new Object[] {"tgen_explain"}, Set.of("idx_payment_transaction_payment_id_id", "uk_payment_transaction_natural")),
+        new ExplainTarget("pending orders for recovery",
+            "SELECT * FROM purchase_order WHERE order_state = ? AND upd_dt < ?",
+            new Object[] {OrderStatus.PAYMENT_PENDING.getCode(), "2000-01-01 00:00:00"}, Set.of("idx_purchase_order_state_upd_dt")),
+        new ExplainTarget("order items by order",
+            "SELECT * FROM order_items WHERE order_id = UUID_TO_BIN(?)",
+            new Object[] {"00000000-0000-0000-0000-000000000000"}, Set.of("uk_order_items_order_item_product")),
+        new ExplainTarget("settlement upsert natural key",
+            "SELECT id FROM payment_settlements WHERE payment_id = ? AND settlements_status = ? AND sold_date = ?",
+            new Object[] {"tgen_explain", PaymentStatus.SETTLEMENTS_REQUESTED.getCode(), "2000-01-01"}, Set.of("uk_payment_settlements_natural"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QueryPlanProperties queryPlanProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> mismatches = TARGETS.stream()
+            .filter(target -> !verify(target))
+            .map(ExplainTarget::name)
+            .toList();
+
+        if (mismatches.isEmpty()) {
+            log.info("query plan verified : {} queries", TARGETS.size());
+            return;
+        }
+        if (queryPlanProperties.isFailOnMismatch()) {
+            throw new IllegalStateException("Missing index for queries : " + mismatches);
+        }
+        log.warn("query plan mismatch : {}", mismatches);
+    }
+
+    private boolean verify(ExplainTarget target) {
+        Map<String, Object> plan = jdbcTemplate.queryForList("EXPLAIN " + target.sql(), target.params()).get(0);
+        String key = Objects.toString(plan.get("key"), null);
+        Set<String> possibleKeys = Arrays.stream(Objects.toString(plan.get("possible_keys"), "").split(","))
+            .map(String::trim)
+            .collect(Collectors.toSet());
+
+        if (key != null && target.expectedIndexes().contains(key)) {
+            log.info("query plan OK [{}] key = {}, type = {}, rows = {}", target.name(), key, plan.get("type"), plan.get("rows"));
+            return true;
+        }
+        if (possibleKeys.stream().anyMatch(target.expectedIndexes()::contains)) {
+            log.warn("query plan [{}] index available but not chosen, key = {}, possible_keys = {}, rows = {}",
+                target.name(), key, possibleKeys, plan.get("rows"));
+            return true;
+        }
+
+        log.error("query plan [{}] expected one of {} but possible_keys = {}, type = {}",
+            target.name(), target.expectedIndexes(), possibleKeys, plan.get("type"));
+        return false;
+    }
+
+    private record ExplainTarget(String name, String sql, Object[] params, Set<String> expectedIndexes) {
+    }
+}
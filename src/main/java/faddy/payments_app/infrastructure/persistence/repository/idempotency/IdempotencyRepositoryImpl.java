@@ -0,0 +1,86 @@
+package faddy.payments_app.infrastructure.persistence.repository.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import faddy.payments_app.application.port.out.repository.IdempotencyRepository;
+import faddy.payments_app.domain.idempotency.IdempotencyRecord;
+import faddy.payments_app.domain.idempotency.IdempotencyStatus;
+import faddy.payments_app.infrastructure.persistence.idempotency.IdempotencyProperties;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 멱등 요청 저장소 구현체
+ *
+ * <p>완료된 응답은 메모리 캐시(크기/TTL 제한)에서 먼저 찾고, 없으면 idempotency_record 테이블에서 찾는다.
+ * 처리 권한은 idempotency_record PK INSERT 로 획득하므로 여러 인스턴스 사이에서도 한 요청만 처리된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+
+    private final JpaIdempotencyRecordRepository jpaIdempotencyRecordRepository;
+    private final Cache<String, String> idempotencyResponseCache;
+    private final IdempotencyProperties idempotencyProperties;
+    private final Clock clock;
+
+    @Override
+    public Optional<String> findCompletedResponse(String idempotencyKey) {
+        String cached = idempotencyResponseCache.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<String> stored = jpaIdempotencyRecordRepository.findById(idempotencyKey)
+            .filter(record -> record.isCompleted(LocalDateTime.now(clock)))
+            .map(IdempotencyRecord::getResponseBody);
+        stored.ifPresent(responseBody -> idempotencyResponseCache.put(idempotencyKey, responseBody));
+        return stored;
+    }
+
+    // 트랜잭션 밖에서 호출되어야 INSERT 실패(PK 중복)를 이 메서드에서 확인할 수 있다
+    @Override
+    public boolean tryAcquire(String idempotencyKey) {
+        if (insert(idempotencyKey)) {
+            return true;
+        }
+
+        // 만료된 기록(중단된 처리 / 보관 기간 경과)이면 지우고 한 번 더 시도
+        return removeExpired(idempotencyKey) && insert(idempotencyKey);
+    }
+
+    @Override
+    public void complete(String idempotencyKey, String responseBody) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        jpaIdempotencyRecordRepository.complete(idempotencyKey, IdempotencyStatus.COMPLETED, responseBody,
+            now.plus(idempotencyProperties.getRetention()), now);
+        idempotencyResponseCache.put(idempotencyKey, responseBody);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        jpaIdempotencyRecordRepository.deleteByKey(idempotencyKey);
+    }
+
+    @Override
+    public int removeExpired() {
+        return jpaIdempotencyRecordRepository.deleteAllExpired(LocalDateTime.now(clock));
+    }
+
+    private boolean insert(String idempotencyKey) {
+        try {
+            jpaIdempotencyRecordRepository.save(
+                IdempotencyRecord.inProgress(idempotencyKey, LocalDateTime.now(clock).plus(idempotencyProperties.getLockTimeout())));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private boolean removeExpired(String idempotencyKey) {
+        return jpaIdempotencyRecordRepository.deleteExpiredByKey(idempotencyKey, LocalDateTime.now(clock)) == 1;
+    }
+}
@@ -0,0 +1,37 @@
+package faddy.payments_app.infrastructure.persistence.repository.idempotency;
+
+import faddy.payments_app.domain.idempotency.IdempotencyRecord;
+import faddy.payments_app.domain.idempotency.IdempotencyStatus;
+import faddy.payments_app.infrastructure.persistence.repository.JpaBaseRepository;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JpaIdempotencyRecordRepository extends JpaBaseRepository<IdempotencyRecord, String> {
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update IdempotencyRecord r set r.status = :status, r.responseBody = :responseBody, r.expiresAt = :expiresAt, r.updDt = :now"
+        + " where r.idempotencyKey = :key")
+    int complete(@Param("key") String key, @Param("status") IdempotencyStatus status,
+        @Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key")
+    int deleteByKey(@Param("key") String key);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key and r.expiresAt < :now")
+    int deleteExpiredByKey(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -2,10 +2,27 @@ package faddy.payments_app.infrastructure.persistence.repository.order;
 
 
 import faddy.payments_app.domain.order.OrderItem;
+import faddy.payments_app.domain.order.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JpaOrderItemRepository extends JpaRepository<OrderItem, Long> {
 
+    // 상품별 UPDATE 대신 한 문장으로 상태 변경. 이미 같은 상태인 상품은 갱신하지 않는다
+    // 실행 전 변경 내용(주문 상태 등)을 flush 하고, 실행 후 영속성 컨텍스트를 비워 이전 상태의 OrderItem 이 조회되지 않게 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderItem i set i.state = :state, i.updDt = :now where i.order.orderId = :orderId and i.itemIdx in :itemIdxs and i.state <> :state")
+    int updateStateByItemIdxs(@Param("orderId") UUID orderId, @Param("itemIdxs") Collection<Integer> itemIdxs,
+        @Param("state") OrderStatus state, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderItem i set i.state = :state, i.updDt = :now where i.order.orderId = :orderId and i.state <> :state")
+    int updateStateByOrderId(@Param("orderId") UUID orderId, @Param("state") OrderStatus state, @Param("now") LocalDateTime now);
 }
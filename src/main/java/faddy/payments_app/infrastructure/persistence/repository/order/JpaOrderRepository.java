@@ -1,10 +1,35 @@
 package faddy.payments_app.infrastructure.persistence.repository.order;
 
 import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.domain.order.OrderStatus;
 import faddy.payments_app.infrastructure.persistence.repository.JpaBaseRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JpaOrderRepository extends JpaBaseRepository<Order, UUID> {
+
+    // 기대 상태일 때만 전이 (동시 승인 요청 중 하나만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :next, o.updDt = :now where o.orderId = :orderId and o.status = :expected")
+    int compareAndSetStatus(@Param("orderId") UUID orderId, @Param("expected") OrderStatus expected,
+        @Param("next") OrderStatus next, @Param("now") LocalDateTime now);
+
+    // 결제 대기 주문만 결제 완료로 전이 (늦은 승인 응답과 복구 작업 중 하나만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :next, o.paymentId = :paymentKey, o.updDt = :now where o.orderId = :orderId and o.status = :expected")
+    int compareAndSetPaymentKey(@Param("orderId") UUID orderId, @Param("paymentKey") String paymentKey,
+        @Param("expected") OrderStatus expected, @Param("next") OrderStatus next, @Param("now") LocalDateTime now);
+
+    // 주문과 주문 상품을 한 번의 쿼리로 조회 (items 지연 로딩 추가 SELECT 없음)
+    @Query("select o from Order o left join fetch o.items where o.orderId = :orderId")
+    Optional<Order> findByIdWithItems(@Param("orderId") UUID orderId);
+
+    List<Order> findAllByStatusAndUpdDtBefore(OrderStatus status, LocalDateTime updatedBefore);
 }
\ No newline at end of file
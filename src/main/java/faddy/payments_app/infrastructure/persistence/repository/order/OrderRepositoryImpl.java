@@ -2,6 +2,11 @@ package faddy.payments_app.infrastructure.persistence.repository.order;
 
 import faddy.payments_app.application.port.out.repository.OrderRepository;
 import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.domain.order.OrderStatus;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +17,8 @@ import org.springframework.stereotype.Repository;
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final JpaOrderRepository jpaOrderRepository;
+    private final JpaOrderItemRepository jpaOrderItemRepository;
+    private final Clock clock;
 
     @Override
     public Order findById(UUID id) {
@@ -20,6 +27,13 @@ public class OrderRepositoryImpl implements OrderRepository {
             .orElseThrow(() -> new NoSuchElementException("OrderId not found"));
     }
 
+    @Override
+    public Order findByIdWithItems(UUID id) {
+        return jpaOrderRepository
+            .findByIdWithItems(id)
+            .orElseThrow(() -> new NoSuchElementException("OrderId not found"));
+    }
+
     @Override
     public Order save(Order newOrder) {
         return jpaOrderRepository.save(newOrder);
@@ -30,4 +44,34 @@ public class OrderRepositoryImpl implements OrderRepository {
         return jpaOrderRepository.deleteById(id);
     }
 
+    @Override
+    public boolean compareAndSetStatus(UUID id, OrderStatus expected, OrderStatus next) {
+        return jpaOrderRepository.compareAndSetStatus(id, expected, next, LocalDateTime.now(clock)) == 1;
+    }
+
+    @Override
+    public boolean compareAndSetPaymentFullFill(UUID id, String paymentKey) {
+        return jpaOrderRepository.compareAndSetPaymentKey(id, paymentKey, OrderStatus.PAYMENT_PENDING,
+            OrderStatus.PAYMENT_FULLFILL, LocalDateTime.now(clock)) == 1;
+    }
+
+    @Override
+    public List<Order> findAllByStatusUpdatedBefore(OrderStatus status, LocalDateTime updatedBefore) {
+        return jpaOrderRepository.findAllByStatusAndUpdDtBefore(status, updatedBefore);
+    }
+
+    @Override
+    public int updateItemStates(UUID orderId, int[] itemIdxs, OrderStatus state) {
+        if (itemIdxs.length == 0) {
+            return 0;
+        }
+        return jpaOrderItemRepository.updateStateByItemIdxs(orderId, Arrays.stream(itemIdxs).boxed().toList(),
+            state, LocalDateTime.now(clock));
+    }
+
+    @Override
+    public int updateAllItemStates(UUID orderId, OrderStatus state) {
+        return jpaOrderItemRepository.updateStateByOrderId(orderId, state, LocalDateTime.now(clock));
+    }
+
 }
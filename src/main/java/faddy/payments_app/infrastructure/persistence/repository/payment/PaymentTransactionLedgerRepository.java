@@ -1,19 +1,48 @@
 package faddy.payments_app.infrastructure.persistence.repository.payment;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import faddy.payments_app.application.port.out.repository.PaymentLedgerRepository;
 import faddy.payments_app.domain.payment.PaymentLedger;
-import java.sql.PreparedStatement;
+import faddy.payments_app.infrastructure.persistence.bulk.MySqlBulkWriter;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * 결제 원장 저장소
+ *
+ * <p>paymentKey 별 최신 원장(취소 가능 금액 확인용)은 ledgerBalanceCache 에서 먼저 찾고, 없으면 DB 에서 읽어 채운다.
+ * 원장 기록 시 커밋 이후에 캐시를 갱신하므로 롤백된 원장은 캐시에 반영되지 않는다.
+ * - save : 저장된 원장으로 교체 (id 가 더 큰 경우만)
+ * - bulkInsert / bulkUpsert : 생성 id 를 알 수 없으므로 해당 paymentKey 를 무효화 (다음 조회 시 DB 에서 다시 읽음)
+ */
 @Repository
 @RequiredArgsConstructor
 public class PaymentTransactionLedgerRepository implements PaymentLedgerRepository {
 
-    private final JdbcTemplate jdbcTemplate;
+    private final static String COLUMNS = "payment_id, method, payment_status, total_amount, balance_amount, canceled_amount, pay_out_amount, sold_date";
+
+    private final static String INSERT_SQL = "INSERT INTO payment_transaction (" + COLUMNS + ") " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 자연키 (payment_id, payment_status, sold_date) 중복 시 갱신. 승인/취소 원장은 sold_date 가 NULL 이라 영향 없음
+    private final static String ON_DUPLICATE_KEY_UPDATE =
+        "ON DUPLICATE KEY UPDATE method = VALUES(method), total_amount = VALUES(total_amount), " +
+        "balance_amount = VALUES(balance_amount), canceled_amount = VALUES(canceled_amount), " +
+        "pay_out_amount = VALUES(pay_out_amount), upd_dt = NOW()";
+
+    private final static String UPSERT_SQL = INSERT_SQL + " " + ON_DUPLICATE_KEY_UPDATE;
+
+    private final static String LOAD_DATA_SQL = "LOAD DATA LOCAL INFILE 'payment_transaction.tsv' INTO TABLE payment_transaction" +
+        " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' (" + COLUMNS + ")";
+
+    private final MySqlBulkWriter bulkWriter;
     private final JpaPaymentLedgerRepository jpaPaymentLedgerRepository;
+    private final Cache<String, PaymentLedger> ledgerBalanceCache;
 
     @Override
     public List<PaymentLedger> findAllByPaymentKey(String paymentKey) {
@@ -23,32 +52,75 @@ public class PaymentTransactionLedgerRepository implements PaymentLedgerReposito
 
     @Override
     public PaymentLedger findOneByPaymentKeyDesc(String paymentKey) {
-        return jpaPaymentLedgerRepository.findTopByPaymentKeyOrderByIdDesc(paymentKey)
-            .orElseThrow(() -> new NullPointerException("findOneByPaymentKeyDesc ::: Not found Payment Transaction"));
+        PaymentLedger latest = ledgerBalanceCache.get(paymentKey,
+            key -> jpaPaymentLedgerRepository.findTopByPaymentKeyOrderByIdDesc(key).orElse(null));
+        if (latest == null) {
+            throw new NullPointerException("findOneByPaymentKeyDesc ::: Not found Payment Transaction");
+        }
+        return latest;
     }
 
     @Override
     public void save(PaymentLedger paymentLedgerInfo) {
-        jpaPaymentLedgerRepository.save(paymentLedgerInfo);
+        PaymentLedger saved = jpaPaymentLedgerRepository.save(paymentLedgerInfo);
+        afterCommit(() -> ledgerBalanceCache.asMap().merge(saved.getPaymentKey(), saved,
+            (cached, latest) -> latest.getId() >= cached.getId() ? latest : cached));
     }
 
     @Override
     public void bulkInsert(List<PaymentLedger> paymentLedgerHistories) {
-        String sqlStatement = "INSERT INTO payment_transaction (payment_id, method, payment_Status, total_amount, balance_amount, canceled_amount, pay_out_amount) " +
-            "VALUES (?, ?, ?, ?, ?, ?, ?)";
-
-        jdbcTemplate.batchUpdate(
-            sqlStatement,
-            paymentLedgerHistories,
-            paymentLedgerHistories.size(),
-            (PreparedStatement ps, PaymentLedger data) -> {
-                ps.setString(1, data.getPaymentKey());
-                ps.setString(2, data.getMethod().toString());
-                ps.setString(3, data.getPaymentStatus().toString());
-                ps.setInt(4, data.getTotalAmount());
-                ps.setInt(5, data.getBalanceAmount());
-                ps.setInt(6, data.getCanceledAmount());
-                ps.setInt(7, data.getPayOutAmount());
-            });
+        invalidateAfterCommit(paymentLedgerHistories);
+        if (bulkWriter.shouldLoadData(paymentLedgerHistories.size())) {
+            bulkWriter.loadData(LOAD_DATA_SQL, paymentLedgerHistories, PaymentTransactionLedgerRepository::toColumnValues);
+            return;
+        }
+        bulkWriter.batchInsert(INSERT_SQL, paymentLedgerHistories, PaymentTransactionLedgerRepository::toColumnValues);
+    }
+
+    @Override
+    public void bulkUpsert(List<PaymentLedger> paymentLedgerHistories) {
+        invalidateAfterCommit(paymentLedgerHistories);
+        // LOAD DATA 는 ON DUPLICATE KEY UPDATE 를 지원하지 않으므로 임시 테이블을 거쳐 같은 절로 반영 (기존 행의 id 유지)
+        if (bulkWriter.shouldLoadData(paymentLedgerHistories.size())) {
+            bulkWriter.loadDataUpsert("payment_transaction", COLUMNS, ON_DUPLICATE_KEY_UPDATE, paymentLedgerHistories,
+                PaymentTransactionLedgerRepository::toColumnValues);
+            return;
+        }
+        bulkWriter.batchInsert(UPSERT_SQL, paymentLedgerHistories, PaymentTransactionLedgerRepository::toColumnValues);
+    }
+
+    private void invalidateAfterCommit(List<PaymentLedger> paymentLedgerHistories) {
+        Set<String> paymentKeys = paymentLedgerHistories.stream()
+            .map(PaymentLedger::getPaymentKey)
+            .collect(Collectors.toSet());
+        afterCommit(() -> ledgerBalanceCache.invalidateAll(paymentKeys));
+    }
+
+    // 트랜잭션 안이면 커밋 이후, 밖이면 즉시 실행
+    private void afterCommit(Runnable cacheUpdate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheUpdate.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheUpdate.run();
+            }
+        });
+    }
+
+    private static Object[] toColumnValues(PaymentLedger data) {
+        return new Object[] {
+            data.getPaymentKey(),
+            data.getMethod().getCode(),
+            data.getPaymentStatus().getCode(),
+            data.getTotalAmount(),
+            data.getBalanceAmount(),
+            data.getCanceledAmount(),
+            data.getPayOutAmount(),
+            data.getSoldDate()
+        };
     }
 }
@@ -2,12 +2,10 @@ package faddy.payments_app.infrastructure.persistence.repository.settlements;
 
 import faddy.payments_app.application.port.out.repository.SettlementRepository;
 import faddy.payments_app.domain.settlements.PaymentSettlements;
-import java.sql.Date;
-import java.sql.PreparedStatement;
+import faddy.payments_app.infrastructure.persistence.bulk.MySqlBulkWriter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,28 +13,54 @@ import org.springframework.stereotype.Repository;
 @Slf4j
 public class SettlementRepositoryImpl implements SettlementRepository {
 
-    private final JdbcTemplate jdbcTemplate;
+    private final static String COLUMNS = "payment_id, method, settlements_status, total_amount, pay_out_amount, canceled_amount, sold_date, paid_out_date";
+
+    private final static String INSERT_SQL = "INSERT INTO payment_settlements (" + COLUMNS + ")" +
+        " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 자연키 (payment_id, settlements_status, sold_date) 중복 시 최신 값으로 갱신 -> 같은 정산을 다시 받아도 행이 늘지 않는다
+    private final static String ON_DUPLICATE_KEY_UPDATE =
+        "ON DUPLICATE KEY UPDATE method = VALUES(method), total_amount = VALUES(total_amount)," +
+        " pay_out_amount = VALUES(pay_out_amount), canceled_amount = VALUES(canceled_amount)," +
+        " paid_out_date = VALUES(paid_out_date), upd_dt = NOW()";
+
+    private final static String UPSERT_SQL = INSERT_SQL + " " + ON_DUPLICATE_KEY_UPDATE;
+
+    private final static String LOAD_DATA_SQL = "LOAD DATA LOCAL INFILE 'payment_settlements.tsv' INTO TABLE payment_settlements" +
+        " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' (" + COLUMNS + ")";
+
+    private final MySqlBulkWriter bulkWriter;
 
     @Override
     public void bulkInsert(List<PaymentSettlements> paymentSettlements) {
-        String sqlStatement = "INSERT INTO payment_settlements (payment_id, method, settlements_status, total_amount, pay_out_amount, canceled_amount, sold_date, paid_out_date)" +
-            " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-
-        jdbcTemplate.batchUpdate(
-            sqlStatement,
-            paymentSettlements,
-            paymentSettlements.size(),
-            (PreparedStatement ps, PaymentSettlements data) -> {
-                ps.setString(1, data.getPaymentKey());
-                ps.setString(2, data.getMethod().getMethodName());
-                ps.setString(3, data.getPaymentStatus().toString());
-                ps.setInt(4, data.getTotalAmount());
-                ps.setInt(5, data.getPayOutAmount());
-                ps.setInt(6, data.getCanceledAmount());
-                ps.setDate(7, data.getSoldDate());
-                ps.setDate(8, data.getPaidOutDate());
-
-            }
-        );
+        if (bulkWriter.shouldLoadData(paymentSettlements.size())) {
+            bulkWriter.loadData(LOAD_DATA_SQL, paymentSettlements, SettlementRepositoryImpl::toColumnValues);
+            return;
+        }
+        bulkWriter.batchInsert(INSERT_SQL, paymentSettlements, SettlementRepositoryImpl::toColumnValues);
+    }
+
+    @Override
+    public void bulkUpsert(List<PaymentSettlements> paymentSettlements) {
+        // LOAD DATA 는 ON DUPLICATE KEY UPDATE 를 지원하지 않으므로 임시 테이블을 거쳐 같은 절로 반영 (기존 행의 id / reg_dt 유지)
+        if (bulkWriter.shouldLoadData(paymentSettlements.size())) {
+            bulkWriter.loadDataUpsert("payment_settlements", COLUMNS, ON_DUPLICATE_KEY_UPDATE, paymentSettlements,
+                SettlementRepositoryImpl::toColumnValues);
+            return;
+        }
+        bulkWriter.batchInsert(UPSERT_SQL, paymentSettlements, SettlementRepositoryImpl::toColumnValues);
+    }
+
+    private static Object[] toColumnValues(PaymentSettlements data) {
+        return new Object[] {
+            data.getPaymentKey(),
+            data.getMethod().getCode(),
+            data.getPaymentStatus().getCode(),
+            data.getTotalAmount(),
+            data.getPayOutAmount(),
+            data.getCanceledAmount(),
+            data.getSoldDate(),
+            data.getPaidOutDate()
+        };
     }
 }
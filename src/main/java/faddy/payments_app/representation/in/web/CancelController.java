@@ -1,12 +1,16 @@
 package faddy.payments_app.representation.in.web;
 
+import faddy.payments_app.application.port.In.PaymentCancelAsyncUseCase;
 import faddy.payments_app.application.port.In.PaymentCancelUseCase;
+import faddy.payments_app.application.service.IdempotencyService;
 import faddy.payments_app.representation.request.order.CancelOrder;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,9 +22,27 @@ import org.springframework.web.bind.annotation.RestController;
 public class CancelController {
 
     private final PaymentCancelUseCase paymentCancelUseCase;
+    private final PaymentCancelAsyncUseCase paymentCancelAsyncUseCase;
+    private final IdempotencyService idempotencyService;
 
+    // 같은 Idempotency-Key(없으면 orderId + 취소 상품) 의 재요청은 저장된 응답을 반환
     @PostMapping("/payment")
-    public Boolean cancelPayment(@RequestBody @Valid CancelOrder cancelOrder) throws Exception {
-        return paymentCancelUseCase.paymentCancel(cancelOrder);
+    public Boolean cancelPayment(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @RequestBody @Valid CancelOrder cancelOrder) throws Exception {
+        return idempotencyService.execute(idempotencyKey(idempotencyKey, cancelOrder), Boolean.class,
+            () -> paymentCancelUseCase.paymentCancel(cancelOrder));
+    }
+
+    // 동기 취소와 같은 키를 사용 -> 같은 취소를 동기/비동기로 번갈아 보내도 PG 에는 한 번만 요청된다
+    @PostMapping("/payment/async")
+    public CompletableFuture<Boolean> cancelPaymentAsync(
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @RequestBody @Valid CancelOrder cancelOrder) throws Exception {
+        return idempotencyService.executeAsync(idempotencyKey(idempotencyKey, cancelOrder), Boolean.class,
+            () -> paymentCancelAsyncUseCase.paymentCancelAsync(cancelOrder));
+    }
+
+    private static String idempotencyKey(String idempotencyKey, CancelOrder cancelOrder) {
+        return idempotencyKey != null ? "cancel:" + idempotencyKey : cancelOrder.idempotencyKey();
     }
 }
@@ -1,14 +1,17 @@
 package faddy.payments_app.representation.in.web;
 
 import faddy.core.common.ApiResponse;
+import faddy.payments_app.application.port.In.PaymentFullfillAsyncUseCase;
 import faddy.payments_app.application.port.In.PaymentFullfillUseCase;
+import faddy.payments_app.application.service.IdempotencyService;
 import faddy.payments_app.representation.request.payment.PaymentApproved;
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,6 +20,8 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class PaymentController {
     private final PaymentFullfillUseCase paymentFullfillUseCase;
+    private final PaymentFullfillAsyncUseCase paymentFullfillAsyncUseCase;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping("/success")
     public String paymentFullfill(@RequestParam(value = "paymentType") String paymentType, @RequestParam(value = "orderId") String orderId,
@@ -29,9 +34,26 @@ public class PaymentController {
         return "fail";
     }
 
+    // 같은 Idempotency-Key(없으면 paymentKey) 의 재요청은 저장된 응답을 반환
     @PostMapping("/confirm")
-    public String paymentConfirm(@RequestBody PaymentApproved paymentInfo) throws IOException {
-        return paymentFullfillUseCase.paymentApproved(paymentInfo);
+    public String paymentConfirm(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @RequestBody PaymentApproved paymentInfo) throws Exception {
+        return idempotencyService.execute(idempotencyKey(idempotencyKey, paymentInfo), String.class,
+            () -> paymentFullfillUseCase.paymentApproved(paymentInfo));
+    }
+
+    // PG 응답 대기 중 서블릿 스레드를 반환 (spring.mvc.async.request-timeout 적용)
+    // 동기 승인과 같은 키로 중복 요청을 막고, 응답 future 가 끝나면 응답을 저장하거나 키를 반환한다
+    @PostMapping("/confirm/async")
+    public CompletableFuture<String> paymentConfirmAsync(
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @RequestBody PaymentApproved paymentInfo) throws Exception {
+        return idempotencyService.executeAsync(idempotencyKey(idempotencyKey, paymentInfo), String.class,
+            () -> paymentFullfillAsyncUseCase.paymentApprovedAsync(paymentInfo));
+    }
+
+    private static String idempotencyKey(String idempotencyKey, PaymentApproved paymentInfo) {
+        return idempotencyKey != null ? "confirm:" + idempotencyKey : paymentInfo.idempotencyKey();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package faddy.payments_app.representation.in.web;
+
+import faddy.core.common.ErrorResponse;
+import faddy.payments_app.application.port.out.api.PgUnavailableException;
+import faddy.payments_app.application.service.IdempotencyConflictException;
+import faddy.payments_app.application.service.PaymentCancelNotAllowedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 결제 요청 처리 중 상태 코드가 정해진 예외 (GlobalException 보다 먼저 적용)
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice
+@Slf4j
+public class PaymentExceptionHandler {
+
+    // PG 보호 계층에서 거절된 요청
+    @ExceptionHandler(PgUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handlePgUnavailable(PgUnavailableException ex) {
+        log.warn("PG unavailable ::: {}", ex.getMessage());
+        return new ErrorResponse(null, ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // 같은 Idempotency-Key 요청이 처리 중
+    @ExceptionHandler(IdempotencyConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleIdempotencyConflict(IdempotencyConflictException ex) {
+        return new ErrorResponse(null, ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    // 구매 확정 주문 / 취소 가능 금액 초과
+    @ExceptionHandler(PaymentCancelNotAllowedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ErrorResponse handlePaymentCancelNotAllowed(PaymentCancelNotAllowedException ex) {
+        return new ErrorResponse(null, ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
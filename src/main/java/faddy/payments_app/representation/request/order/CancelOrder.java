@@ -2,6 +2,8 @@ package faddy.payments_app.representation.request.order;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import faddy.payments_app.representation.request.payment.IdempotentRequest;
+import java.util.Arrays;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,7 +13,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
-public class CancelOrder {
+public class CancelOrder implements IdempotentRequest {
     private UUID orderId;
     private int[] itemIdxs;         // itemIdx 정보가 Empty면 전체 취소
     private String cancelReason;    // 취소 사유
@@ -21,4 +23,10 @@ public class CancelOrder {
     public boolean hasItemIdx(){
         return this.getItemIdxs() != null && this.getItemIdxs().length > 0;
     }
+
+    // 같은 주문의 같은 상품(전체) 취소는 한 번만 처리
+    @Override
+    public String idempotencyKey() {
+        return "cancel:" + orderId + (hasItemIdx() ? ":" + Arrays.toString(itemIdxs) : "");
+    }
 }
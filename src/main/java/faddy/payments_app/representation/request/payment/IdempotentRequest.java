@@ -0,0 +1,9 @@
+package faddy.payments_app.representation.request.payment;
+
+/**
+ * PG 에 Idempotency-Key 헤더와 함께 전달되는 요청
+ * 같은 키로 재시도하면 PG 는 최초 요청의 결과를 돌려주므로 중복 승인/취소가 발생하지 않는다.
+ */
+public interface IdempotentRequest {
+    String idempotencyKey();
+}
@@ -5,9 +5,15 @@ import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
-public class PaymentApproved {
+public class PaymentApproved implements IdempotentRequest {
     private final String paymentType;
     private final String paymentKey;
     private final String orderId;
     private final String amount;
+
+    // 같은 결제(paymentKey)의 승인은 몇 번을 재시도해도 한 번만 처리되어야 한다
+    @Override
+    public String idempotencyKey() {
+        return "confirm:" + paymentKey;
+    }
 }
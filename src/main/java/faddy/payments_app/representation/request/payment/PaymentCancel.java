@@ -1,11 +1,22 @@
 package faddy.payments_app.representation.request.payment;
 
+import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
-public class PaymentCancel {
+public class PaymentCancel implements IdempotentRequest {
     private final String cancelReason;
     private final int cancelAmount;
+
+    // 부분 취소는 여러 번 가능하므로 취소 요청 객체마다 키를 만든다 (재시도 시 같은 객체 = 같은 키)
+    @Getter(AccessLevel.NONE)
+    private final String idempotencyKey = UUID.randomUUID().toString();
+
+    @Override
+    public String idempotencyKey() {
+        return idempotencyKey;
+    }
 }
\ No newline at end of file
@@ -14,4 +14,8 @@ public class PaymentSettlement {
     private String endDate;
     private int page;
     private int size;
-}
\ No newline at end of file
+
+    public PaymentSettlement nextPage() {
+        return new PaymentSettlement(startDate, endDate, page + 1, size);
+    }
+}
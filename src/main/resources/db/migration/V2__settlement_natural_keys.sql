@@ -0,0 +1,22 @@
+-- 정산 원장 매출일 : (payment_id, payment_status, sold_date) 자연키로 정산 적재를 멱등하게 만든다
+ALTER TABLE `payment_transaction`
+    ADD COLUMN `sold_date` DATE NULL COMMENT '정산 매출일 (정산 원장만)' AFTER `pay_out_amount`;
+
+-- (id, ...) 로 시작하는 UNIQUE KEY 는 PK 로 이미 유일하고 payment_id 로 시작하는 조회에 쓰이지 않는다
+ALTER TABLE `payment_transaction` DROP INDEX `id`;
+ALTER TABLE `payment_settlements` DROP INDEX `id`;
+
+-- 중복 적재된 정산 건 정리 (같은 자연키 중 가장 최근 id 만 유지)
+DELETE older
+FROM `payment_settlements` older
+         JOIN `payment_settlements` newer
+              ON older.payment_id = newer.payment_id
+                  AND older.settlements_status = newer.settlements_status
+                  AND older.sold_date = newer.sold_date
+                  AND older.id < newer.id;
+
+-- 기존 승인/취소 원장은 sold_date 가 NULL 이므로 UNIQUE 제약에 걸리지 않는다
+ALTER TABLE `payment_transaction`
+    ADD CONSTRAINT `uk_payment_transaction_natural` UNIQUE (`payment_id`, `payment_status`, `sold_date`);
+ALTER TABLE `payment_settlements`
+    ADD CONSTRAINT `uk_payment_settlements_natural` UNIQUE (`payment_id`, `settlements_status`, `sold_date`);
@@ -0,0 +1,12 @@
+-- spring-modulith-events-jpa outbox (결제 승인/취소, 정산 적재 이벤트)
+CREATE TABLE `event_publication`
+(
+    `id`               BINARY(16)    NOT NULL,
+    `listener_id`      VARCHAR(512)  NOT NULL,
+    `event_type`       VARCHAR(512)  NOT NULL,
+    `serialized_event` TEXT          NOT NULL,
+    `publication_date` TIMESTAMP(6)  NOT NULL,
+    `completion_date`  TIMESTAMP(6)  NULL,
+    PRIMARY KEY (id),
+    INDEX event_publication_by_completion_date_idx (completion_date)
+);
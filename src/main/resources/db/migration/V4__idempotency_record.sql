@@ -0,0 +1,12 @@
+-- /confirm, /cancel/payment 멱등 요청 기록
+CREATE TABLE `idempotency_record`
+(
+    `idempotency_key` VARCHAR(255)           NOT NULL COMMENT '멱등 키',
+    `status`          VARCHAR(20)            NOT NULL COMMENT '처리 상태 (IN_PROGRESS, COMPLETED)',
+    `response_body`   TEXT                   NULL COMMENT '저장된 응답',
+    `expires_at`      DATETIME               NOT NULL COMMENT '만료 일시',
+    `reg_dt`          DATETIME DEFAULT NOW() NOT NULL,
+    `upd_dt`          DATETIME DEFAULT NOW() NOT NUll,
+    PRIMARY KEY (idempotency_key),
+    INDEX idx_idempotency_record_expires_at (expires_at)
+);
@@ -0,0 +1,16 @@
+-- 조회 쿼리 기준 인덱스 (QueryPlanVerifier 가 기동 시 EXPLAIN 으로 사용 여부를 확인)
+
+-- JpaPaymentLedgerRepository.findTopByPaymentKeyOrderByIdDesc / findByPaymentKey
+--   WHERE payment_id = ? ORDER BY id DESC LIMIT 1 -> 정렬 없이 인덱스 역방향으로 한 건
+CREATE INDEX `idx_payment_transaction_payment_id_id` ON `payment_transaction` (`payment_id`, `id`);
+
+-- JpaOrderRepository.findAllByStatusAndUpdDtBefore (PaymentRecoveryService)
+--   WHERE order_state = ? AND upd_dt < ?
+CREATE INDEX `idx_purchase_order_state_upd_dt` ON `purchase_order` (`order_state`, `upd_dt`);
+
+-- Order.items 지연 로딩 : WHERE order_id = ?
+--   기존 UNIQUE KEY (order_id, item_idx, product_id) 가 order_id 로 시작하므로 이름만 부여
+ALTER TABLE `order_items` RENAME INDEX `order_id` TO `uk_order_items_order_item_product`;
+
+-- 정산 upsert 는 uk_payment_settlements_natural (payment_id, settlements_status, sold_date) 를 사용
+-- purchase_order.payment_id 로 조회하는 쿼리는 아직 없으므로 인덱스를 만들지 않는다 (쓰기 비용만 증가)
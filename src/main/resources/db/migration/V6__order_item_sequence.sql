@@ -0,0 +1,11 @@
+-- OrderItem id 생성 : IDENTITY -> pooled 시퀀스 (allocationSize 50)
+-- MySQL 은 시퀀스가 없어 Hibernate 가 단일 행 테이블(next_val)로 대신한다.
+-- pooled 는 읽은 값 - 49 부터 할당하므로 기존 최대 id 보다 50 이상 크게 시작한다
+CREATE TABLE `order_item_seq`
+(
+    `next_val` BIGINT NOT NULL
+);
+
+INSERT INTO `order_item_seq` (next_val)
+SELECT COALESCE(MAX(id), 0) + 51
+FROM `order_items`;
@@ -0,0 +1,79 @@
+-- enum 컬럼 : enum 이름(VARCHAR(255)) -> 2자리 코드(CHAR(2))
+-- 코드는 각 enum(CodedEnum)의 getCode() 와 일치해야 한다
+
+-- 주문 상태 (OrderStatus)
+UPDATE `purchase_order`
+SET order_state = CASE order_state
+    WHEN 'ORDER_COMPLETED' THEN '01'
+    WHEN 'ORDER_CANCELLED' THEN '02'
+    WHEN 'PAYMENT_FULLFILL' THEN '03'
+    WHEN 'SHIPPING_PREPARE' THEN '04'
+    WHEN 'SHIPPING' THEN '05'
+    WHEN 'SHIPPING_COMPLETED' THEN '06'
+    WHEN 'PURCHASE_DECISION' THEN '07'
+    WHEN 'PAYMENT_PENDING' THEN '08'
+    ELSE order_state END;
+
+UPDATE `order_items`
+SET order_state = CASE order_state
+    WHEN 'ORDER_COMPLETED' THEN '01'
+    WHEN 'ORDER_CANCELLED' THEN '02'
+    WHEN 'PAYMENT_FULLFILL' THEN '03'
+    WHEN 'SHIPPING_PREPARE' THEN '04'
+    WHEN 'SHIPPING' THEN '05'
+    WHEN 'SHIPPING_COMPLETED' THEN '06'
+    WHEN 'PURCHASE_DECISION' THEN '07'
+    WHEN 'PAYMENT_PENDING' THEN '08'
+    ELSE order_state END;
+
+-- 결제 수단 (PaymentMethod) : JPA 는 '카드', JDBC bulk insert 는 'CARD' 로 저장해 왔다
+-- 결제/정산 상태 (PaymentStatus)
+UPDATE `payment_transaction`
+SET method         = CASE method WHEN '카드' THEN '01' WHEN 'CARD' THEN '01' ELSE method END,
+    payment_status = CASE payment_status
+        WHEN 'DONE' THEN '01'
+        WHEN 'PARTIAL_CANCELED' THEN '02'
+        WHEN 'CANCELED' THEN '03'
+        WHEN 'SETTLEMENTS_REQUESTED' THEN '11'
+        WHEN 'SETTLEMENTS_COMPLETED' THEN '12'
+        WHEN 'SETTLEMENTS_CANCELED' THEN '13'
+        ELSE payment_status END;
+
+UPDATE `payment_settlements`
+SET method             = CASE method WHEN '카드' THEN '01' WHEN 'CARD' THEN '01' ELSE method END,
+    settlements_status = CASE settlements_status
+        WHEN 'DONE' THEN '01'
+        WHEN 'PARTIAL_CANCELED' THEN '02'
+        WHEN 'CANCELED' THEN '03'
+        WHEN 'SETTLEMENTS_REQUESTED' THEN '11'
+        WHEN 'SETTLEMENTS_COMPLETED' THEN '12'
+        WHEN 'SETTLEMENTS_CANCELED' THEN '13'
+        ELSE settlements_status END;
+
+-- 카드 매입 상태 (AcquireStatus)
+UPDATE `card_payment`
+SET acquire_status = CASE acquire_status
+    WHEN 'READY' THEN '01'
+    WHEN 'REQUESTED' THEN '02'
+    WHEN 'COMPLETED' THEN '03'
+    WHEN 'CANCEL_REQUESTED' THEN '04'
+    WHEN 'CANCELLED' THEN '05'
+    ELSE acquire_status END;
+
+-- 변환되지 않은 값이 남아 있으면 CHAR(2) 변경이 실패해 마이그레이션이 중단된다
+ALTER TABLE `purchase_order`
+    MODIFY `order_state` CHAR(2) NOT NULL COMMENT '주문상태 코드';
+
+ALTER TABLE `order_items`
+    MODIFY `order_state` CHAR(2) NOT NULL COMMENT '개별 주문상태 코드';
+
+ALTER TABLE `payment_transaction`
+    MODIFY `method` CHAR(2) NOT NULL COMMENT '거래 수단 코드',
+    MODIFY `payment_status` CHAR(2) NOT NULL COMMENT '거래 상태 코드';
+
+ALTER TABLE `payment_settlements`
+    MODIFY `method` CHAR(2) NOT NULL COMMENT '거래 수단 코드',
+    MODIFY `settlements_status` CHAR(2) NOT NULL COMMENT '정산 상태 코드';
+
+ALTER TABLE `card_payment`
+    MODIFY `acquire_status` CHAR(2) NOT NULL COMMENT '카드결제 매입 상태 코드';
@@ -0,0 +1,139 @@
+package faddy.payments_app.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faddy.payments_app.application.port.out.repository.IdempotencyRepository;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class IdempotencyServiceTest {
+
+    private final InMemoryIdempotencyRepository repository = new InMemoryIdempotencyRepository();
+    private final IdempotencyService idempotencyService = new IdempotencyService(repository, new ObjectMapper());
+
+    @Test
+    @DisplayName("같은 키의 재요청은 요청을 다시 실행하지 않고 저장된 응답을 반환한다")
+    public void givenCompletedKey_whenExecute_thenReturnsStoredResponse() throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String first = idempotencyService.execute("confirm:tgen_1", String.class, () -> "success-" + calls.incrementAndGet());
+        String second = idempotencyService.execute("confirm:tgen_1", String.class, () -> "success-" + calls.incrementAndGet());
+
+        // Then
+        Assertions.assertEquals("success-1", first);
+        Assertions.assertEquals("success-1", second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 요청하면 충돌 예외가 발생한다")
+    public void givenInProgressKey_whenExecute_thenThrowsConflict() {
+        // Given
+        repository.tryAcquire("cancel:order-1");
+
+        // When & Then
+        Assertions.assertThrows(IdempotencyConflictException.class,
+            () -> idempotencyService.execute("cancel:order-1", Boolean.class, () -> true));
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 키를 반환해 같은 키로 재시도할 수 있다")
+    public void givenFailedRequest_whenRetry_thenExecutesAgain() throws Exception {
+        // Given
+        Assertions.assertThrows(IOException.class, () -> idempotencyService.execute("cancel:order-2", Boolean.class, () -> {
+            throw new IOException("PG timeout");
+        }));
+
+        // When
+        Boolean result = idempotencyService.execute("cancel:order-2", Boolean.class, () -> true);
+
+        // Then
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 응답이 끝나기 전까지 같은 키를 선점하고, 끝나면 저장된 응답을 반환한다")
+    public void givenPendingAsyncRequest_whenExecuteAsyncAgain_thenConflictsUntilCompleted() throws Exception {
+        // Given
+        CompletableFuture<Boolean> pgResponse = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Boolean> first = idempotencyService.executeAsync("cancel:order-3", Boolean.class, () -> {
+            calls.incrementAndGet();
+            return pgResponse;
+        });
+
+        // When & Then
+        Assertions.assertThrows(IdempotencyConflictException.class,
+            () -> idempotencyService.executeAsync("cancel:order-3", Boolean.class, () -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(true);
+            }));
+
+        pgResponse.complete(true);
+        CompletableFuture<Boolean> replayed = idempotencyService.executeAsync("cancel:order-3", Boolean.class, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(false);
+        });
+        Assertions.assertTrue(first.join());
+        Assertions.assertTrue(replayed.join());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 실패하면 키를 반환해 같은 키로 재시도할 수 있다")
+    public void givenFailedAsyncRequest_whenRetry_thenExecutesAgain() throws Exception {
+        // Given
+        CompletableFuture<String> failed = idempotencyService.executeAsync("confirm:tgen_2", String.class,
+            () -> CompletableFuture.failedFuture(new IOException("PG timeout")));
+        Assertions.assertThrows(CompletionException.class, failed::join);
+
+        // When
+        String result = idempotencyService.executeAsync("confirm:tgen_2", String.class,
+            () -> CompletableFuture.completedFuture("success")).join();
+
+        // Then
+        Assertions.assertEquals("success", result);
+    }
+
+    private static class InMemoryIdempotencyRepository implements IdempotencyRepository {
+        private final Map<String, String> records = new HashMap<>();
+
+        @Override
+        public Optional<String> findCompletedResponse(String idempotencyKey) {
+            return Optional.ofNullable(records.get(idempotencyKey));
+        }
+
+        @Override
+        public boolean tryAcquire(String idempotencyKey) {
+            if (records.containsKey(idempotencyKey)) {
+                return false;
+            }
+            records.put(idempotencyKey, null);
+            return true;
+        }
+
+        @Override
+        public void complete(String idempotencyKey, String responseBody) {
+            records.put(idempotencyKey, responseBody);
+        }
+
+        @Override
+        public void release(String idempotencyKey) {
+            records.remove(idempotencyKey);
+        }
+
+        @Override
+        public int removeExpired() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package faddy.payments_app.application.service;
+
+import faddy.payments_app.application.port.out.api.AsyncPaymentAPIs;
+import faddy.payments_app.application.port.out.api.PaymentAPIs;
+import faddy.payments_app.application.port.out.api.PaymentNotFoundException;
+import faddy.payments_app.application.port.out.api.PaymentRejectedException;
+import faddy.payments_app.application.port.out.repository.OrderRepository;
+import faddy.payments_app.application.port.out.repository.PaymentLedgerRepository;
+import faddy.payments_app.application.port.out.repository.TransactionTypeRepository;
+import faddy.payments_app.domain.event.PaymentApprovedEvent;
+import faddy.payments_app.domain.order.Order;
+import faddy.payments_app.domain.order.OrderStatus;
+import faddy.payments_app.domain.payment.PaymentLedger;
+import faddy.payments_app.domain.payment.TransactionType;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.infrastructure.out.pg.toss.response.payment.method.Card;
+import faddy.payments_app.representation.request.payment.PaymentApproved;
+import faddy.payments_app.representation.request.payment.PaymentCancel;
+import faddy.payments_app.representation.request.payment.PaymentSettlement;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 승인 흐름 (PAYMENT_PENDING 선점 / 즉시 원복 / 복구 작업) 테스트
+ */
+public class PaymentServiceTest {
+
+    private static final String PAYMENT_KEY = "tgen_20240605132741Jtkz1";
+
+    private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+    private final InMemoryPaymentLedgerRepository paymentLedgerRepository = new InMemoryPaymentLedgerRepository();
+    private final CardTransactionTypeRepository cardTransactionTypeRepository = new CardTransactionTypeRepository();
+    private final StubPaymentAPIs tossPayment = new StubPaymentAPIs();
+    private final StubAsyncPaymentAPIs asyncTossPayment = new StubAsyncPaymentAPIs();
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    private PaymentService paymentService;
+    private PaymentRecoveryService paymentRecoveryService;
+
+    @BeforeEach
+    public void setUp() {
+        paymentService = new PaymentService(tossPayment, asyncTossPayment,
+            new TransactionTemplate(new NoOpTransactionManager()), publishedEvents::add, orderRepository,
+            paymentLedgerRepository, Set.of(cardTransactionTypeRepository), Runnable::run);
+        paymentService.init();
+
+        paymentRecoveryService = new PaymentRecoveryService(tossPayment, orderRepository, paymentService,
+            Clock.systemDefaultZone());
+    }
+
+    @Test
+    @DisplayName("승인에 성공하면 주문을 결제 완료로 바꾸고 원장/결제수단/이벤트를 한 번 기록한다")
+    public void givenApprovedResponse_whenPaymentApproved_thenRecordsPaymentOnce() throws Exception {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.ORDER_COMPLETED);
+        tossPayment.approveResponse = approvedResponse(orderId, "DONE");
+
+        // When
+        String result = paymentService.paymentApproved(paymentInfo(orderId));
+
+        // Then
+        Assertions.assertEquals("success", result);
+        Assertions.assertEquals(OrderStatus.PAYMENT_FULLFILL, orderRepository.statusOf(orderId));
+        Assertions.assertEquals(PAYMENT_KEY, orderRepository.findById(orderId).getPaymentId());
+        Assertions.assertEquals(1, paymentLedgerRepository.saved.size());
+        Assertions.assertEquals(1, cardTransactionTypeRepository.saved.size());
+        Assertions.assertEquals(1, publishedEvents.stream().filter(PaymentApprovedEvent.class::isInstance).count());
+    }
+
+    @Test
+    @DisplayName("이미 결제 대기 중인 주문은 PG 로 승인 요청을 보내지 않는다")
+    public void givenPendingOrder_whenPaymentApproved_thenDoesNotCallPg() {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.PAYMENT_PENDING);
+
+        // When & Then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> paymentService.paymentApproved(paymentInfo(orderId)));
+        Assertions.assertEquals(0, tossPayment.approveCalls);
+        Assertions.assertEquals(OrderStatus.PAYMENT_PENDING, orderRepository.statusOf(orderId));
+    }
+
+    @Test
+    @DisplayName("PG 가 승인을 거절하면 주문을 즉시 주문 완료 상태로 되돌린다")
+    public void givenRejected_whenPaymentApproved_thenReleasesOrder() {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.ORDER_COMPLETED);
+        tossPayment.approveFailure = new PaymentRejectedException("{\"code\":\"REJECT_CARD_PAYMENT\"}");
+
+        // When & Then
+        Assertions.assertThrows(PaymentRejectedException.class, () -> paymentService.paymentApproved(paymentInfo(orderId)));
+        Assertions.assertEquals(OrderStatus.ORDER_COMPLETED, orderRepository.statusOf(orderId));
+    }
+
+    @Test
+    @DisplayName("결과를 알 수 없는 실패(타임아웃, 408, 429, 5xx)는 주문을 결제 대기로 남긴다")
+    public void givenUnknownOutcome_whenPaymentApproved_thenKeepsOrderPending() {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.ORDER_COMPLETED);
+        tossPayment.approveFailure = new IOException("Too Many Requests");
+
+        // When & Then
+        Assertions.assertThrows(IOException.class, () -> paymentService.paymentApproved(paymentInfo(orderId)));
+        Assertions.assertEquals(OrderStatus.PAYMENT_PENDING, orderRepository.statusOf(orderId));
+        Assertions.assertTrue(paymentLedgerRepository.saved.isEmpty());
+    }
+
+    @Test
+    @DisplayName("비동기 승인도 PG 가 거절하면 주문을 되돌리고, 결과를 알 수 없으면 결제 대기로 남긴다")
+    public void givenAsyncFailure_whenPaymentApprovedAsync_thenReleasesOnlyDefinitiveFailure() {
+        // Given
+        UUID rejectedOrderId = orderRepository.add(OrderStatus.ORDER_COMPLETED);
+        UUID unknownOrderId = orderRepository.add(OrderStatus.ORDER_COMPLETED);
+
+        // When
+        asyncTossPayment.approveFailure = new PaymentRejectedException("{\"code\":\"REJECT_CARD_PAYMENT\"}");
+        CompletableFuture<String> rejected = paymentService.paymentApprovedAsync(paymentInfo(rejectedOrderId));
+        asyncTossPayment.approveFailure = new IOException("timeout");
+        CompletableFuture<String> unknown = paymentService.paymentApprovedAsync(paymentInfo(unknownOrderId));
+
+        // Then
+        Assertions.assertThrows(CompletionException.class, rejected::join);
+        Assertions.assertThrows(CompletionException.class, unknown::join);
+        Assertions.assertEquals(OrderStatus.ORDER_COMPLETED, orderRepository.statusOf(rejectedOrderId));
+        Assertions.assertEquals(OrderStatus.PAYMENT_PENDING, orderRepository.statusOf(unknownOrderId));
+    }
+
+    @Test
+    @DisplayName("늦은 승인 응답과 복구 작업이 같은 주문을 확정해도 원장은 한 번만 기록된다")
+    public void givenAlreadyFullfilled_whenCompletePaymentApproved_thenDoesNotRecordAgain() {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.PAYMENT_PENDING);
+        ResponsePaymentApproved response = approvedResponse(orderId, "DONE");
+
+        // When
+        String first = paymentService.completePaymentApproved(orderId, response);
+        String second = paymentService.completePaymentApproved(orderId, response);
+
+        // Then
+        Assertions.assertEquals("success", first);
+        Assertions.assertEquals("success", second);
+        Assertions.assertEquals(1, paymentLedgerRepository.saved.size());
+        Assertions.assertEquals(1, cardTransactionTypeRepository.saved.size());
+        Assertions.assertEquals(1, publishedEvents.size());
+    }
+
+    @Test
+    @DisplayName("복구 작업 : PG 에서 승인 완료(DONE)로 조회되면 결제 완료로 확정한다")
+    public void givenDoneAtPg_whenRecover_thenFullfillsOrder() {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.PAYMENT_PENDING);
+        tossPayment.lookupResponse = approvedResponse(orderId, "DONE");
+
+        // When
+        paymentRecoveryService.recoverPendingPayments();
+
+        // Then
+        Assertions.assertEquals(OrderStatus.PAYMENT_FULLFILL, orderRepository.statusOf(orderId));
+        Assertions.assertEquals(1, paymentLedgerRepository.saved.size());
+    }
+
+    @Test
+    @DisplayName("복구 작업 : PG 에서 실패(ABORTED/EXPIRED/CANCELED)로 조회되면 주문을 되돌린다")
+    public void givenAbortedAtPg_whenRecover_thenReleasesOrder() {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.PAYMENT_PENDING);
+        tossPayment.lookupResponse = approvedResponse(orderId, "ABORTED");
+
+        // When
+        paymentRecoveryService.recoverPendingPayments();
+
+        // Then
+        Assertions.assertEquals(OrderStatus.ORDER_COMPLETED, orderRepository.statusOf(orderId));
+        Assertions.assertTrue(paymentLedgerRepository.saved.isEmpty());
+    }
+
+    @Test
+    @DisplayName("복구 작업 : PG 에서 진행 중(IN_PROGRESS)으로 조회되면 다음 주기까지 결제 대기로 남긴다")
+    public void givenInProgressAtPg_whenRecover_thenKeepsOrderPending() {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.PAYMENT_PENDING);
+        tossPayment.lookupResponse = approvedResponse(orderId, "IN_PROGRESS");
+
+        // When
+        paymentRecoveryService.recoverPendingPayments();
+
+        // Then
+        Assertions.assertEquals(OrderStatus.PAYMENT_PENDING, orderRepository.statusOf(orderId));
+    }
+
+    @Test
+    @DisplayName("복구 작업 : PG 에 결제가 없으면(404) 주문을 되돌린다")
+    public void givenNotFoundAtPg_whenRecover_thenReleasesOrder() {
+        // Given
+        UUID orderId = orderRepository.add(OrderStatus.PAYMENT_PENDING);
+        tossPayment.lookupFailure = new PaymentNotFoundException("{\"code\":\"NOT_FOUND_PAYMENT\"}");
+
+        // When
+        paymentRecoveryService.recoverPendingPayments();
+
+        // Then
+        Assertions.assertEquals(OrderStatus.ORDER_COMPLETED, orderRepository.statusOf(orderId));
+    }
+
+    @Test
+    @DisplayName("복구 작업 : 결제 존재 여부를 알 수 없는 실패(401/403, 429, 5xx)는 주문을 결제 대기로 남긴다")
+    public void givenUnknownLookupFailure_whenRecover_thenKeepsOrderPending() {
+        // Given
+        UUID unauthorizedOrderId = orderRepository.add(OrderStatus.PAYMENT_PENDING);
+        tossPayment.lookupFailure = new PaymentRejectedException("{\"code\":\"UNAUTHORIZED_KEY\"}");
+
+        // When
+        paymentRecoveryService.recoverPendingPayments();
+        tossPayment.lookupFailure = new IOException("Too Many Requests");
+        paymentRecoveryService.recoverPendingPayments();
+
+        // Then
+        Assertions.assertEquals(OrderStatus.PAYMENT_PENDING, orderRepository.statusOf(unauthorizedOrderId));
+        Assertions.assertEquals(2, tossPayment.lookupCalls);
+    }
+
+    private static PaymentApproved paymentInfo(UUID orderId) {
+        return new PaymentApproved("NORMAL", PAYMENT_KEY, orderId.toString(), "3400");
+    }
+
+    private static ResponsePaymentApproved approvedResponse(UUID orderId, String status) {
+        return ResponsePaymentApproved.builder()
+            .orderId(orderId.toString())
+            .paymentKey(PAYMENT_KEY)
+            .method("카드")
+            .status(status)
+            .totalAmount(3400)
+            .balanceAmount(3400)
+            .card(Card.builder()
+                .acquirerCode("41")
+                .number("54287966****112")
+                .approveNo("00000000")
+                .acquireStatus("READY")
+                .build())
+            .build();
+    }
+
+    private static class InMemoryOrderRepository implements OrderRepository {
+        private final Map<UUID, OrderStatus> statuses = new HashMap<>();
+        private final Map<UUID, String> paymentKeys = new HashMap<>();
+
+        UUID add(OrderStatus status) {
+            UUID orderId = UUID.randomUUID();
+            statuses.put(orderId, status);
+            return orderId;
+        }
+
+        OrderStatus statusOf(UUID orderId) {
+            return statuses.get(orderId);
+        }
+
+        @Override
+        public Order findById(UUID id) {
+            return new Order(id, "홍길동", "01012345678", paymentKeys.get(id), 3400, statuses.get(id), new ArrayList<>());
+        }
+
+        @Override
+        public Order findByIdWithItems(UUID id) {
+            return findById(id);
+        }
+
+        @Override
+        public Order save(Order newOrder) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean compareAndSetStatus(UUID id, OrderStatus expected, OrderStatus next) {
+            if (statuses.get(id) != expected) {
+                return false;
+            }
+            statuses.put(id, next);
+            return true;
+        }
+
+        @Override
+        public boolean compareAndSetPaymentFullFill(UUID id, String paymentKey) {
+            if (!compareAndSetStatus(id, OrderStatus.PAYMENT_PENDING, OrderStatus.PAYMENT_FULLFILL)) {
+                return false;
+            }
+            paymentKeys.put(id, paymentKey);
+            return true;
+        }
+
+        @Override
+        public List<Order> findAllByStatusUpdatedBefore(OrderStatus status, LocalDateTime updatedBefore) {
+            return statuses.entrySet().stream()
+                .filter(entry -> entry.getValue() == status)
+                .map(entry -> findById(entry.getKey()))
+                .toList();
+        }
+
+        @Override
+        public int updateItemStates(UUID orderId, int[] itemIdxs, OrderStatus state) {
+            return 0;
+        }
+
+        @Override
+        public int updateAllItemStates(UUID orderId, OrderStatus state) {
+            return 0;
+        }
+    }
+
+    private static class InMemoryPaymentLedgerRepository implements PaymentLedgerRepository {
+        private final List<PaymentLedger> saved = new ArrayList<>();
+
+        @Override
+        public List<PaymentLedger> findAllByPaymentKey(String paymentKey) {
+            return saved;
+        }
+
+        @Override
+        public PaymentLedger findOneByPaymentKeyDesc(String paymentKey) {
+            return saved.isEmpty() ? null : saved.get(saved.size() - 1);
+        }
+
+        @Override
+        public void save(PaymentLedger paymentLedgerInfo) {
+            saved.add(paymentLedgerInfo);
+        }
+
+        @Override
+        public void bulkInsert(List<PaymentLedger> paymentLedgerHistories) {
+            saved.addAll(paymentLedgerHistories);
+        }
+
+        @Override
+        public void bulkUpsert(List<PaymentLedger> paymentLedgerHistories) {
+            saved.addAll(paymentLedgerHistories);
+        }
+    }
+
+    // PaymentService 는 클래스 이름(CardTransactionTypeRepository)으로 결제수단별 저장소를 찾는다
+    private static class CardTransactionTypeRepository implements TransactionTypeRepository {
+        private final List<TransactionType> saved = new ArrayList<>();
+
+        @Override
+        public TransactionType findById(String paymentKey) {
+            return null;
+        }
+
+        @Override
+        public void save(TransactionType paymentDetailInfo) {
+            saved.add(paymentDetailInfo);
+        }
+    }
+
+    private static class StubPaymentAPIs implements PaymentAPIs {
+        private ResponsePaymentApproved approveResponse;
+        private IOException approveFailure;
+        private ResponsePaymentApproved lookupResponse;
+        private IOException lookupFailure;
+        private int approveCalls;
+        private int lookupCalls;
+
+        @Override
+        public ResponsePaymentApproved requestPaymentApprove(PaymentApproved requestMessage) throws IOException {
+            approveCalls++;
+            if (approveFailure != null) {
+                throw approveFailure;
+            }
+            return approveResponse;
+        }
+
+        @Override
+        public boolean isPaymentApproved(String status) {
+            return "DONE".equalsIgnoreCase(status);
+        }
+
+        @Override
+        public ResponsePaymentApproved requestPaymentByOrderId(String orderId) throws IOException {
+            lookupCalls++;
+            if (lookupFailure != null) {
+                throw lookupFailure;
+            }
+            return lookupResponse;
+        }
+
+        @Override
+        public ResponsePaymentCancel requestPaymentCancel(String paymentKey, PaymentCancel cancelMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ResponsePaymentSettlements> requestPaymentSettlement(PaymentSettlement paymentSettlement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int streamPaymentSettlement(PaymentSettlement paymentSettlement, int chunkSize,
+            Consumer<List<ResponsePaymentSettlements>> chunkConsumer) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class StubAsyncPaymentAPIs implements AsyncPaymentAPIs {
+        private IOException approveFailure;
+
+        @Override
+        public CompletableFuture<ResponsePaymentApproved> requestPaymentApproveAsync(PaymentApproved requestMessage) {
+            return CompletableFuture.failedFuture(approveFailure);
+        }
+
+        @Override
+        public CompletableFuture<ResponsePaymentCancel> requestPaymentCancelAsync(String paymentKey, PaymentCancel cancelMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<List<ResponsePaymentSettlements>> requestPaymentSettlementAsync(PaymentSettlement paymentSettlement) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    // TransactionTemplate 의 콜백만 실행하는 트랜잭션 매니저
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
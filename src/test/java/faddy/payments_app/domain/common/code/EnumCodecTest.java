@@ -0,0 +1,40 @@
+package faddy.payments_app.domain.common.code;
+
+import faddy.payments_app.domain.order.OrderStatus;
+import faddy.payments_app.domain.payment.PaymentMethod;
+import faddy.payments_app.domain.payment.PaymentStatus;
+import faddy.payments_app.domain.payment.card.AcquireStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EnumCodecTest {
+
+    @Test
+    @DisplayName("모든 enum 상수가 코드로 저장되고 같은 상수로 복원된다")
+    public void givenAllConstants_whenEncodeAndDecode_thenRoundTrip() {
+        assertRoundTrip(OrderStatus.class);
+        assertRoundTrip(PaymentStatus.class);
+        assertRoundTrip(PaymentMethod.class);
+        assertRoundTrip(AcquireStatus.class);
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 코드나 enum 이름은 예외가 발생한다")
+    public void givenUnknownCode_whenDecode_thenThrowsIllegalArgumentException() {
+        EnumCodec<PaymentStatus> codec = new EnumCodec<>(PaymentStatus.class);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode("99"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode("DONE"));
+        Assertions.assertNull(codec.decode(null));
+    }
+
+    private <E extends Enum<E> & CodedEnum> void assertRoundTrip(Class<E> type) {
+        EnumCodec<E> codec = new EnumCodec<>(type);
+        for (E constant : type.getEnumConstants()) {
+            String code = codec.encode(constant);
+            Assertions.assertEquals(2, code.length());
+            Assertions.assertSame(constant, codec.decode(code));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package faddy.payments_app.domain.common.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UuidV7Test {
+
+    @Test
+    @DisplayName("UUIDv7 형식(version 7, RFC variant)과 생성 시각을 갖는다")
+    public void whenNext_thenVersion7WithCurrentTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = UuidV7.next();
+
+        // Then
+        Assertions.assertEquals(7, uuid.version());
+        Assertions.assertEquals(2, uuid.variant());
+        Assertions.assertTrue(UuidV7.timestampMillis(uuid) >= before);
+    }
+
+    @Test
+    @DisplayName("연속 생성한 값은 같은 밀리초 안에서도 항상 증가한다")
+    public void whenNextRepeatedly_thenStrictlyIncreasing() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7.next();
+            Assertions.assertTrue(current.compareTo(previous) > 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복이 없다")
+    public void givenConcurrentThreads_whenNext_thenUnique() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    generated.add(UuidV7.next());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        Assertions.assertEquals(threads * perThread, generated.size());
+    }
+}
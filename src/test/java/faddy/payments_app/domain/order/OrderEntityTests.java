@@ -205,6 +205,20 @@ public class OrderEntityTests {
         assertEquals(25000, order.getTotalPrice());
     }
 
+    @Test
+    @DisplayName("취소 가능 상품 조회 테스트 - 주문에 없거나 이미 취소된 상품은 제외")
+    public void given_partiallyCancelledOrder_when_cancellableItemIdxs_then_returnOnlyActiveItems() throws Exception {
+        // Given
+        Order order = createSampleOrder();
+        order.orderCancel(new int[] {1});
+
+        // When
+        int[] result = order.cancellableItemIdxs(new int[] {3, 2, 1});
+
+        // Then
+        assertArrayEquals(new int[] {2}, result);
+    }
+
     // 도우미 메소드
     private Order createSampleOrder() throws Exception {
         return createOrderWithItems(
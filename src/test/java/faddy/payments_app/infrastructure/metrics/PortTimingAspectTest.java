@@ -0,0 +1,163 @@
+package faddy.payments_app.infrastructure.metrics;
+
+import faddy.payments_app.application.port.out.api.AsyncPaymentAPIs;
+import faddy.payments_app.application.port.out.repository.TransactionTypeRepository;
+import faddy.payments_app.domain.payment.TransactionType;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.representation.request.payment.PaymentApproved;
+import faddy.payments_app.representation.request.payment.PaymentCancel;
+import faddy.payments_app.representation.request.payment.PaymentSettlement;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+public class PortTimingAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PortTimingAspect portTimingAspect = new PortTimingAspect(meterRegistry);
+
+    @Test
+    @DisplayName("같은 태그 조합의 호출은 하나의 Timer 에 누적되고, 포트 이름은 구현 클래스가 아닌 포트 인터페이스로 기록된다")
+    public void givenRepeatedCalls_whenTimed_thenReusesSingleTimer() {
+        // Given
+        TransactionTypeRepository repository = proxy(new StubTransactionTypeRepository());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            repository.findById("tgen_1");
+        }
+
+        // Then
+        Timer timer = meterRegistry.get("port.out.duration")
+            .tag("port", "TransactionTypeRepository")
+            .tag("method", "findById")
+            .tag("adapter", "StubTransactionTypeRepository")
+            .tag("outcome", "success")
+            .timer();
+        Assertions.assertEquals(3, timer.count());
+        Assertions.assertEquals(1, meterRegistry.find("port.out.duration").timers().size());
+    }
+
+    @Test
+    @DisplayName("예외가 발생하면 outcome=error 와 예외 이름으로 기록한다")
+    public void givenFailure_whenTimed_thenTagsException() {
+        // Given
+        TransactionTypeRepository repository = proxy(new StubTransactionTypeRepository());
+
+        // When
+        Assertions.assertThrows(IllegalStateException.class, () -> repository.save(null));
+
+        // Then
+        Timer timer = meterRegistry.get("port.out.duration")
+            .tag("method", "save")
+            .tag("outcome", "error")
+            .tag("exception", "IllegalStateException")
+            .timer();
+        Assertions.assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("데코레이터가 같은 포트의 어댑터를 호출하면 바깥 호출만 측정한다")
+    public void givenDecoratedPort_whenTimed_thenRecordsOuterCallOnly() {
+        // Given
+        TransactionTypeRepository adapter = proxy(new StubTransactionTypeRepository());
+        TransactionTypeRepository decorator = proxy(new DecoratingTransactionTypeRepository(adapter));
+
+        // When
+        decorator.findById("tgen_1");
+
+        // Then
+        Assertions.assertEquals(1, meterRegistry.find("port.out.duration").timers().size());
+        Assertions.assertEquals(1, meterRegistry.get("port.out.duration")
+            .tag("adapter", "DecoratingTransactionTypeRepository")
+            .timer()
+            .count());
+    }
+
+    @Test
+    @DisplayName("CompletionStage 를 반환하는 포트는 완료 시점에 기록한다")
+    public void givenAsyncPort_whenTimed_thenRecordsOnCompletion() {
+        // Given
+        StubAsyncPaymentAPIs target = new StubAsyncPaymentAPIs();
+        AsyncPaymentAPIs asyncPaymentAPIs = proxy(target);
+
+        // When
+        CompletableFuture<ResponsePaymentApproved> future = asyncPaymentAPIs.requestPaymentApproveAsync(null);
+
+        // Then
+        Assertions.assertNull(meterRegistry.find("port.out.duration").timer());
+        target.response.complete(ResponsePaymentApproved.builder().status("DONE").build());
+        future.join();
+        Assertions.assertEquals(1, meterRegistry.get("port.out.duration")
+            .tag("port", "AsyncPaymentAPIs")
+            .tag("outcome", "success")
+            .timer()
+            .count());
+    }
+
+    // 운영과 같이 클래스 기반(CGLIB) 프록시로 감싼다
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(portTimingAspect);
+        return (T) proxyFactory.getProxy();
+    }
+
+    static class StubTransactionTypeRepository implements TransactionTypeRepository {
+
+        @Override
+        public TransactionType findById(String paymentKey) {
+            return null;
+        }
+
+        @Override
+        public void save(TransactionType paymentDetailInfo) {
+            throw new IllegalStateException("save failed");
+        }
+    }
+
+    static class DecoratingTransactionTypeRepository implements TransactionTypeRepository {
+        private final TransactionTypeRepository delegate;
+
+        DecoratingTransactionTypeRepository(TransactionTypeRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public TransactionType findById(String paymentKey) {
+            return delegate.findById(paymentKey);
+        }
+
+        @Override
+        public void save(TransactionType paymentDetailInfo) {
+            delegate.save(paymentDetailInfo);
+        }
+    }
+
+    static class StubAsyncPaymentAPIs implements AsyncPaymentAPIs {
+        private final CompletableFuture<ResponsePaymentApproved> response = new CompletableFuture<>();
+
+        @Override
+        public CompletableFuture<ResponsePaymentApproved> requestPaymentApproveAsync(PaymentApproved requestMessage) {
+            return response;
+        }
+
+        @Override
+        public CompletableFuture<ResponsePaymentCancel> requestPaymentCancelAsync(String paymentKey, PaymentCancel cancelMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<List<ResponsePaymentSettlements>> requestPaymentSettlementAsync(PaymentSettlement paymentSettlement) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package faddy.payments_app.infrastructure.out.mq.codec;
+
+import faddy.payments_app.domain.payment.PaymentMethod;
+import faddy.payments_app.domain.payment.PaymentStatus;
+import faddy.payments_app.domain.settlements.PaymentSettlements;
+import faddy.payments_app.infrastructure.out.mq.record$.SettlementRecord;
+import faddy.payments_app.infrastructure.out.mq.serde.AvroSingleObjectDeserializer;
+import faddy.payments_app.infrastructure.out.mq.serde.AvroSingleObjectSerializer;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.infrastructure.out.pg.toss.response.payment.method.Card;
+import java.sql.Date;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SettlementRecordCodecTest {
+
+    private final AvroSingleObjectSerializer serializer = new AvroSingleObjectSerializer();
+    private final AvroSingleObjectDeserializer<SettlementRecord> deserializer = new AvroSingleObjectDeserializer<>(SettlementRecord.class);
+
+    @Test
+    @DisplayName("정산 응답을 레코드로 변환해 직렬화/역직렬화해도 값이 유지된다")
+    public void givenSettlementResponse_whenRoundTrip_thenKeepsValues() {
+        // Given
+        ResponsePaymentSettlements response = ResponsePaymentSettlements.builder()
+            .paymentKey("tgen_20240605132741Jtkz1")
+            .method("카드")
+            .totalAmount(15_000)
+            .payOutAmount(14_550)
+            .card(Card.builder().acquireStatus("COMPLETED").build())
+            .soldDate("2024-06-05")
+            .paidOutDate("2024-06-10")
+            .build();
+
+        // When
+        SettlementRecord record = deserializer.deserialize("settlement-records-v2",
+            serializer.serialize("settlement-records-v2", SettlementRecordCodec.toRecord(response)));
+
+        // Then
+        Assertions.assertEquals("tgen_20240605132741Jtkz1", record.getPaymentKey());
+        Assertions.assertEquals(PaymentMethod.CARD, SettlementRecordCodec.method(record));
+        Assertions.assertEquals(PaymentStatus.SETTLEMENTS_COMPLETED, SettlementRecordCodec.status(record));
+        Assertions.assertEquals(15_000, record.getTotalAmount());
+        Assertions.assertEquals(0, record.getCanceledAmount());
+        Assertions.assertEquals(14_550, record.getPayOutAmount());
+        Assertions.assertEquals(LocalDate.of(2024, 6, 5), record.getSoldDate());
+        Assertions.assertEquals(LocalDate.of(2024, 6, 10), record.getPaidOutDate());
+    }
+
+    @Test
+    @DisplayName("수신한 레코드를 저장소 포트가 받는 정산 도메인 객체로 변환한다")
+    public void givenRecord_whenToSettlements_thenKeepsValues() {
+        // Given
+        SettlementRecord record = SettlementRecordCodec.toRecord(ResponsePaymentSettlements.builder()
+            .paymentKey("tgen_20240605132741Jtkz1")
+            .method("카드")
+            .totalAmount(15_000)
+            .payOutAmount(14_550)
+            .card(Card.builder().acquireStatus("COMPLETED").build())
+            .soldDate("2024-06-05")
+            .paidOutDate("2024-06-10")
+            .build());
+
+        // When
+        PaymentSettlements settlements = SettlementRecordCodec.toSettlements(record);
+
+        // Then
+        Assertions.assertEquals("tgen_20240605132741Jtkz1", settlements.getPaymentKey());
+        Assertions.assertEquals(PaymentMethod.CARD, settlements.getMethod());
+        Assertions.assertEquals(PaymentStatus.SETTLEMENTS_COMPLETED, settlements.getPaymentStatus());
+        Assertions.assertEquals(15_000, settlements.getTotalAmount());
+        Assertions.assertEquals(14_550, settlements.getPayOutAmount());
+        Assertions.assertEquals(0, settlements.getCanceledAmount());
+        Assertions.assertEquals(Date.valueOf("2024-06-05"), settlements.getSoldDate());
+        Assertions.assertEquals(Date.valueOf("2024-06-10"), settlements.getPaidOutDate());
+    }
+
+    @Test
+    @DisplayName("yyyy-MM-dd 형식이 아닌 날짜는 예외가 발생한다")
+    public void givenInvalidDate_whenParse_thenThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SettlementRecordCodec.parseDate("2024/06/05"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SettlementRecordCodec.parseDate("20240605"));
+    }
+}
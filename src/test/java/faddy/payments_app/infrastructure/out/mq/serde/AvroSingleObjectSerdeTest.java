@@ -0,0 +1,87 @@
+package faddy.payments_app.infrastructure.out.mq.serde;
+
+import faddy.payments_app.infrastructure.out.mq.record$.SettlementRecord;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+@EmbeddedKafka(partitions = 1, topics = AvroSingleObjectSerdeTest.TOPIC)
+public class AvroSingleObjectSerdeTest {
+
+    static final String TOPIC = "settlement-records-v2";
+
+    private final AvroSingleObjectSerializer serializer = new AvroSingleObjectSerializer();
+
+    @Test
+    @DisplayName("스키마 레지스트리 없이 임베디드 브로커로 정산 레코드를 주고받는다")
+    public void givenEmbeddedBroker_whenSendAndReceive_thenRecordIsEqual(EmbeddedKafkaBroker broker) throws Exception {
+        // Given
+        SettlementRecord sent = settlementRecord();
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("serde-test", "false", broker);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        // When
+        try (KafkaProducer<String, SettlementRecord> producer = new KafkaProducer<>(
+            KafkaTestUtils.producerProps(broker), new StringSerializer(), serializer::serialize)) {
+            producer.send(new ProducerRecord<>(TOPIC, sent.getPaymentKey(), sent)).get();
+        }
+
+        ConsumerRecord<String, SettlementRecord> received;
+        try (Consumer<String, SettlementRecord> consumer = new DefaultKafkaConsumerFactory<>(consumerProps,
+            new StringDeserializer(), new AvroSingleObjectDeserializer<>(SettlementRecord.class)).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            received = KafkaTestUtils.getSingleRecord(consumer, TOPIC);
+        }
+
+        // Then
+        Assertions.assertEquals(sent.getPaymentKey(), received.key());
+        Assertions.assertEquals(sent, received.value());
+    }
+
+    @Test
+    @DisplayName("직렬화 결과는 Avro 표준 single-object encoding 이다")
+    public void givenSerializedBytes_whenDecodeWithAvroMessageDecoder_thenRecordIsEqual() throws Exception {
+        // Given
+        SettlementRecord sent = settlementRecord();
+
+        // When
+        byte[] bytes = serializer.serialize(TOPIC, sent);
+
+        // Then
+        Assertions.assertEquals(sent, SettlementRecord.fromByteBuffer(ByteBuffer.wrap(bytes)));
+        Assertions.assertEquals(sent, new AvroSingleObjectDeserializer<SettlementRecord>().deserialize(TOPIC, bytes));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없는 스키마 fingerprint 는 예외가 발생한다")
+    public void givenUnknownFingerprint_whenDeserialize_thenThrowsSerializationException() {
+        // Given
+        byte[] bytes = serializer.serialize(TOPIC, settlementRecord());
+        bytes[2] ^= 0x01;
+
+        // When & Then
+        AvroSingleObjectDeserializer<SettlementRecord> deserializer = new AvroSingleObjectDeserializer<>(SettlementRecord.class);
+        Assertions.assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, bytes));
+        Assertions.assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, new byte[] {0, 1, 2}));
+    }
+
+    private SettlementRecord settlementRecord() {
+        return new SettlementRecord("tgen_20240605132741Jtkz1", 1, 12, 15_000, 0, 14_550,
+            LocalDate.of(2024, 6, 5), LocalDate.of(2024, 6, 10));
+    }
+}
@@ -0,0 +1,199 @@
+package faddy.payments_app.infrastructure.out.pg.resilience;
+
+import faddy.payments_app.application.port.out.api.PaymentAPIs;
+import faddy.payments_app.application.port.out.api.PaymentRejectedException;
+import faddy.payments_app.application.port.out.api.PgUnavailableException;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import faddy.payments_app.representation.request.payment.PaymentApproved;
+import faddy.payments_app.representation.request.payment.PaymentCancel;
+import faddy.payments_app.representation.request.payment.PaymentSettlement;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PG 호출 보호 계층 테스트
+ *
+ * 레지스트리는 application.yml 의 resilience4j 설정과 같은 규칙(재시도/무시 예외)으로 만들고,
+ * 테스트 시간을 줄이기 위해 대기 시간만 짧게 둔다.
+ */
+public class ResilientPaymentAPIsTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final StubPaymentAPIs delegate = new StubPaymentAPIs();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+        .ignoreExceptions(PaymentRejectedException.class)
+        .build());
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+        .maxConcurrentCalls(1)
+        .maxWaitDuration(Duration.ZERO)
+        .build());
+    private final RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+        .maxAttempts(MAX_ATTEMPTS)
+        .waitDuration(Duration.ofMillis(1))
+        .retryExceptions(IOException.class)
+        .ignoreExceptions(PaymentRejectedException.class, CallNotPermittedException.class, BulkheadFullException.class)
+        .build());
+
+    private final ResilientPaymentAPIs resilientPaymentAPIs = new ResilientPaymentAPIs(delegate,
+        circuitBreakerRegistry, bulkheadRegistry, retryRegistry);
+
+    @Test
+    @DisplayName("멱등한 호출(승인/조회/취소)은 결과를 알 수 없는 실패에서 재시도한다")
+    public void givenIoFailure_whenIdempotentCall_thenRetries() {
+        // Given
+        delegate.failure = new IOException("PG timeout");
+
+        // When
+        Assertions.assertThrows(IOException.class,
+            () -> resilientPaymentAPIs.requestPaymentApprove(new PaymentApproved("NORMAL", "tgen_1", "order-1", "3400")));
+        Assertions.assertThrows(IOException.class, () -> resilientPaymentAPIs.requestPaymentByOrderId("order-1"));
+        Assertions.assertThrows(IOException.class,
+            () -> resilientPaymentAPIs.requestPaymentCancel("tgen_1", new PaymentCancel("Reason", 3400)));
+
+        // Then
+        Assertions.assertEquals(MAX_ATTEMPTS * 3, delegate.calls);
+    }
+
+    @Test
+    @DisplayName("재시도 중 성공하면 성공 응답을 반환한다")
+    public void givenTransientFailure_whenIdempotentCall_thenReturnsRetriedResponse() throws Exception {
+        // Given
+        delegate.failure = new IOException("PG timeout");
+        delegate.failuresLeft = 1;
+
+        // When
+        ResponsePaymentApproved response = resilientPaymentAPIs.requestPaymentByOrderId("order-1");
+
+        // Then
+        Assertions.assertNotNull(response);
+        Assertions.assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    @DisplayName("정산 조회는 부수효과가 있을 수 있으므로 재시도하지 않는다")
+    public void givenIoFailure_whenSettlementCall_thenDoesNotRetry() {
+        // Given
+        delegate.failure = new IOException("PG timeout");
+        PaymentSettlement paymentSettlement = new PaymentSettlement("2024-01-01", "2024-01-02", 1, 100);
+
+        // When
+        Assertions.assertThrows(IOException.class, () -> resilientPaymentAPIs.requestPaymentSettlement(paymentSettlement));
+        Assertions.assertThrows(IOException.class,
+            () -> resilientPaymentAPIs.streamPaymentSettlement(paymentSettlement, 100, chunk -> { }));
+
+        // Then
+        Assertions.assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    @DisplayName("PG 가 거절한 요청은 재시도하지 않고 서킷 실패로도 기록하지 않는다")
+    public void givenRejected_whenIdempotentCall_thenDoesNotRetry() {
+        // Given
+        delegate.failure = new PaymentRejectedException("{\"code\":\"REJECT_CARD_PAYMENT\"}");
+
+        // When
+        Assertions.assertThrows(PaymentRejectedException.class,
+            () -> resilientPaymentAPIs.requestPaymentApprove(new PaymentApproved("NORMAL", "tgen_1", "order-1", "3400")));
+
+        // Then
+        Assertions.assertEquals(1, delegate.calls);
+        Assertions.assertEquals(0, circuitBreakerRegistry.circuitBreaker("tossConfirm").getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 PG 를 호출하지 않고 PgUnavailableException 으로 실패한다")
+    public void givenOpenCircuit_whenCall_thenPgUnavailable() {
+        // Given
+        circuitBreakerRegistry.circuitBreaker("tossPaymentLookup").transitionToOpenState();
+
+        // When & Then
+        PgUnavailableException e = Assertions.assertThrows(PgUnavailableException.class,
+            () -> resilientPaymentAPIs.requestPaymentByOrderId("order-1"));
+        Assertions.assertInstanceOf(CallNotPermittedException.class, e.getCause());
+        Assertions.assertEquals(0, delegate.calls);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기하지 않고 PgUnavailableException 으로 실패한다")
+    public void givenFullBulkhead_whenCall_thenPgUnavailable() {
+        // Given
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("tossPg");
+        Assertions.assertTrue(bulkhead.tryAcquirePermission());
+
+        try {
+            // When & Then
+            PgUnavailableException e = Assertions.assertThrows(PgUnavailableException.class,
+                () -> resilientPaymentAPIs.requestPaymentCancel("tgen_1", new PaymentCancel("Reason", 3400)));
+            Assertions.assertInstanceOf(BulkheadFullException.class, e.getCause());
+            Assertions.assertEquals(0, delegate.calls);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private static class StubPaymentAPIs implements PaymentAPIs {
+        private IOException failure;
+        private int failuresLeft = Integer.MAX_VALUE;
+        private int calls;
+
+        private void call() throws IOException {
+            calls++;
+            if (failure != null && failuresLeft-- > 0) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public ResponsePaymentApproved requestPaymentApprove(PaymentApproved requestMessage) throws IOException {
+            call();
+            return ResponsePaymentApproved.builder().status("DONE").build();
+        }
+
+        @Override
+        public boolean isPaymentApproved(String status) {
+            return "DONE".equalsIgnoreCase(status);
+        }
+
+        @Override
+        public ResponsePaymentApproved requestPaymentByOrderId(String orderId) throws IOException {
+            call();
+            return ResponsePaymentApproved.builder().orderId(orderId).status("DONE").build();
+        }
+
+        @Override
+        public ResponsePaymentCancel requestPaymentCancel(String paymentKey, PaymentCancel cancelMessage) throws IOException {
+            call();
+            return ResponsePaymentCancel.builder().paymentKey(paymentKey).status("CANCELED").build();
+        }
+
+        @Override
+        public List<ResponsePaymentSettlements> requestPaymentSettlement(PaymentSettlement paymentSettlement) throws IOException {
+            call();
+            return List.of();
+        }
+
+        @Override
+        public int streamPaymentSettlement(PaymentSettlement paymentSettlement, int chunkSize,
+            Consumer<List<ResponsePaymentSettlements>> chunkConsumer) throws IOException {
+            call();
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package faddy.payments_app.infrastructure.out.pg.toss;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentSettlements;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SettlementsPageReaderTest {
+
+    private final SettlementsPageReader reader = new SettlementsPageReader(new ObjectMapper());
+
+    @Test
+    @DisplayName("정산 응답을 chunkSize 단위로 나누어 전달한다")
+    public void givenSettlementsPage_whenRead_thenDeliversBoundedChunks() throws IOException {
+        // Given
+        String body = "[" + settlement("tgen_1") + "," + settlement("tgen_2") + "," + settlement("tgen_3") + "]";
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<String> paymentKeys = new ArrayList<>();
+
+        // When
+        int count = reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), 2, chunk -> {
+            chunkSizes.add(chunk.size());
+            chunk.stream().map(ResponsePaymentSettlements::getPaymentKey).forEach(paymentKeys::add);
+        });
+
+        // Then
+        Assertions.assertEquals(3, count);
+        Assertions.assertEquals(List.of(2, 1), chunkSizes);
+        Assertions.assertEquals(List.of("tgen_1", "tgen_2", "tgen_3"), paymentKeys);
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 chunk 를 전달하지 않는다")
+    public void givenEmptyPage_whenRead_thenReturnsZero() throws IOException {
+        // Given
+        List<ResponsePaymentSettlements> received = new ArrayList<>();
+
+        // When
+        int count = reader.read(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), 2, received::addAll);
+
+        // Then
+        Assertions.assertEquals(0, count);
+        Assertions.assertTrue(received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("JSON 배열이 아닌 응답은 예외가 발생한다")
+    public void givenNotArrayBody_whenRead_thenThrowsIOException() {
+        Assertions.assertThrows(IOException.class, () ->
+            reader.read(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), 2, chunk -> {}));
+    }
+
+    private String settlement(String paymentKey) {
+        return "{\"paymentKey\":\"" + paymentKey + "\",\"method\":\"카드\",\"amount\":1000,\"payOutAmount\":970,"
+            + "\"soldDate\":\"2024-06-05\",\"paidOutDate\":\"2024-06-10\",\"unknownField\":1}";
+    }
+}
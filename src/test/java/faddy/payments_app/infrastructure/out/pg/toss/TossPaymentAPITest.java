@@ -2,6 +2,8 @@ package faddy.payments_app.infrastructure.out.pg.toss;
 
 import static org.mockito.Mockito.when;
 
+import faddy.payments_app.application.port.out.api.PaymentNotFoundException;
+import faddy.payments_app.application.port.out.api.PaymentRejectedException;
 import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentApproved;
 import faddy.payments_app.infrastructure.out.pg.toss.response.ResponsePaymentCancel;
 import faddy.payments_app.infrastructure.out.pg.toss.response.payment.Cancel;
@@ -12,6 +14,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +23,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import retrofit2.Response;
 import retrofit2.mock.Calls;
 
 @ExtendWith(MockitoExtension.class)
@@ -88,4 +93,44 @@ public class TossPaymentAPITest {
         Assertions.assertEquals(result, response);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void requestPaymentByOrderId_notFound_isPaymentNotFound() {
+        String orderId = UUID.randomUUID().toString();
+        when(tossClient.paymentByOrderId(orderId))
+            .thenReturn(Calls.<ResponsePaymentApproved>response(errorResponse(404, "NOT_FOUND_PAYMENT")));
+
+        Assertions.assertThrows(PaymentNotFoundException.class, () -> tossPayment.requestPaymentByOrderId(orderId));
+    }
+
+    @Test
+    public void requestPaymentApprove_clientError_isRejected() {
+        PaymentApproved paymentInfo = new PaymentApproved("NORMAL", "tgen_20240605132741Jtkz1",
+            UUID.randomUUID().toString(), "3400");
+        when(tossClient.paymentFullfill(paymentInfo))
+            .thenReturn(Calls.<ResponsePaymentApproved>response(errorResponse(400, "REJECT_CARD_PAYMENT")));
+
+        IOException e = Assertions.assertThrows(IOException.class, () -> tossPayment.requestPaymentApprove(paymentInfo));
+        Assertions.assertInstanceOf(PaymentRejectedException.class, e);
+        Assertions.assertFalse(e instanceof PaymentNotFoundException);
+    }
+
+    // 408 / 429 는 PG 가 요청을 처리했는지 알 수 없으므로 거절로 보지 않는다
+    @Test
+    public void requestPaymentApprove_timeoutOrTooManyRequests_isUnknownOutcome() {
+        for (int code : new int[]{408, 429, 500}) {
+            PaymentApproved paymentInfo = new PaymentApproved("NORMAL", "tgen_20240605132741Jtkz1",
+                UUID.randomUUID().toString(), "3400");
+            when(tossClient.paymentFullfill(paymentInfo))
+                .thenReturn(Calls.<ResponsePaymentApproved>response(errorResponse(code, "ERROR")));
+
+            IOException e = Assertions.assertThrows(IOException.class, () -> tossPayment.requestPaymentApprove(paymentInfo));
+            Assertions.assertFalse(e instanceof PaymentRejectedException, "status " + code);
+        }
+    }
+
+    private static Response<ResponsePaymentApproved> errorResponse(int code, String errorCode) {
+        return Response.error(code, ResponseBody.create(MediaType.parse("application/json"),
+            "{\"code\":\"" + errorCode + "\",\"message\":\"error\"}"));
+    }
+
+}
@@ -1,8 +1,10 @@
 package faddy.payments_app.infrastructure.persistence.repository.order;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import faddy.core.config.ClockConfig;
 import faddy.payments_app.application.port.out.repository.OrderRepository;
 import faddy.payments_app.domain.order.Order;
 import faddy.payments_app.domain.order.OrderItem;
@@ -19,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test")
@@ -27,6 +30,7 @@ import org.springframework.test.context.ActiveProfiles;
     classes = OrderRepositoryImpl.class
 ))
 @AutoConfigureTestDatabase(replace = Replace.ANY)
+@Import(ClockConfig.class)
 public class OrderRepositoryTest {
 
     @Autowired
@@ -63,6 +67,35 @@ public class OrderRepositoryTest {
         assertThat(foundOrder.getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETED);
     }
 
+    /**
+     * 주문 상태 CAS 전이 테스트
+     */
+    @Test
+    @DisplayName("기대 상태일 때만 주문 상태가 전이된다")
+    public void testCompareAndSetStatus() {
+        // Given
+        Order order = null;
+        try {
+            order = Order.builder()
+                .name("Test Customer")
+                .phoneNumber("01012345678")
+                .items(new ArrayList<>())
+                .build();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create test order", e);
+        }
+        UUID orderId = orderRepository.save(order).getOrderId();
+
+        // When
+        boolean first = orderRepository.compareAndSetStatus(orderId, OrderStatus.ORDER_COMPLETED, OrderStatus.PAYMENT_PENDING);
+        boolean second = orderRepository.compareAndSetStatus(orderId, OrderStatus.ORDER_COMPLETED, OrderStatus.PAYMENT_PENDING);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(orderRepository.findById(orderId).getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+    }
+
     /**
      * 존재하지 않는 ID 조회 시 예외 발생 테스트
      */
@@ -137,4 +170,81 @@ public class OrderRepositoryTest {
         assertThat(foundOrder.getStatus()).isEqualTo(OrderStatus.PAYMENT_FULLFILL);
         assertThat(foundOrder.getPaymentId()).isEqualTo(paymentKey);
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 상품 일괄 취소 테스트
+     */
+    @Test
+    @DisplayName("요청한 상품 중 아직 취소되지 않은 상품만 한 번의 UPDATE 로 취소되고, 다시 조회하면 변경된 상태가 보인다")
+    public void testUpdateItemStates() {
+        // Given
+        UUID orderId = orderRepository.save(orderWithItems(OrderStatus.ORDER_COMPLETED, OrderStatus.ORDER_COMPLETED,
+            OrderStatus.ORDER_CANCELLED)).getOrderId();
+        Order managedOrder = orderRepository.findByIdWithItems(orderId);
+
+        // When
+        int updated = orderRepository.updateItemStates(orderId, new int[]{1, 3}, OrderStatus.ORDER_CANCELLED);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        Order foundOrder = orderRepository.findByIdWithItems(orderId);
+        assertThat(foundOrder).isNotSameAs(managedOrder);
+        assertThat(foundOrder.getItems())
+            .extracting(OrderItem::getItemIdx, OrderItem::getState)
+            .containsExactlyInAnyOrder(
+                tuple(1, OrderStatus.ORDER_CANCELLED),
+                tuple(2, OrderStatus.ORDER_COMPLETED),
+                tuple(3, OrderStatus.ORDER_CANCELLED));
+    }
+
+    /**
+     * 주문 전체 취소 테스트
+     */
+    @Test
+    @DisplayName("주문 전체 취소 시 변경한 주문 상태가 상품 일괄 UPDATE 전에 반영된다")
+    public void testUpdateAllItemStates() {
+        // Given
+        UUID orderId = orderRepository.save(orderWithItems(OrderStatus.ORDER_COMPLETED, OrderStatus.ORDER_COMPLETED))
+            .getOrderId();
+        Order managedOrder = orderRepository.findByIdWithItems(orderId);
+
+        // When
+        managedOrder.orderStatusCancel();
+        int updated = orderRepository.updateAllItemStates(orderId, OrderStatus.ORDER_CANCELLED);
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        Order foundOrder = orderRepository.findByIdWithItems(orderId);
+        assertThat(foundOrder.getStatus()).isEqualTo(OrderStatus.ORDER_CANCELLED);
+        assertThat(foundOrder.getItems())
+            .extracting(OrderItem::getState)
+            .containsOnly(OrderStatus.ORDER_CANCELLED);
+    }
+
+    private static Order orderWithItems(OrderStatus... itemStates) {
+        Order order;
+        try {
+            order = Order.builder()
+                .name("Test Customer")
+                .phoneNumber("01012345678")
+                .items(new ArrayList<>())
+                .build();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create test order", e);
+        }
+
+        for (int i = 0; i < itemStates.length; i++) {
+            order.getItems().add(OrderItem.builder()
+                .order(order)
+                .itemIdx(i + 1)
+                .productId(UUID.randomUUID())
+                .productName("Test Product " + (i + 1))
+                .price(1000)
+                .quantity(1)
+                .size("FREE")
+                .state(itemStates[i])
+                .build());
+        }
+        return order;
+    }
+}
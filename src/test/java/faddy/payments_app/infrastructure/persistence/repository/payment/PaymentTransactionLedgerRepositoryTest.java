@@ -0,0 +1,185 @@
+package faddy.payments_app.infrastructure.persistence.repository.payment;
+
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import faddy.payments_app.domain.payment.PaymentLedger;
+import faddy.payments_app.domain.payment.PaymentMethod;
+import faddy.payments_app.domain.payment.PaymentStatus;
+import faddy.payments_app.infrastructure.persistence.bulk.MySqlBulkWriter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * paymentKey 별 최신 원장 캐시(ledgerBalanceCache) 갱신 시점 테스트
+ *
+ * 트랜잭션은 TransactionSynchronizationManager 로 흉내 내고, 커밋은 등록된 afterCommit 콜백을 직접 실행한다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PaymentTransactionLedgerRepositoryTest {
+
+    private static final String PAYMENT_KEY = "tgen_20240605132741Jtkz1";
+
+    @Mock
+    private MySqlBulkWriter bulkWriter;
+
+    @Mock
+    private JpaPaymentLedgerRepository jpaPaymentLedgerRepository;
+
+    private final Cache<String, PaymentLedger> ledgerBalanceCache = Caffeine.newBuilder()
+        .maximumSize(100)
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .build();
+
+    private PaymentTransactionLedgerRepository paymentLedgerRepository;
+
+    @BeforeEach
+    public void setUp() {
+        paymentLedgerRepository = new PaymentTransactionLedgerRepository(bulkWriter, jpaPaymentLedgerRepository,
+            ledgerBalanceCache);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("bulkUpsert 는 커밋 이후에 캐시를 무효화하고, 커밋 전에는 기존 잔액을 읽는다")
+    public void givenCachedLedger_whenBulkUpsertCommitted_thenInvalidatesAfterCommit() {
+        // Given
+        PaymentLedger approved = ledger(1, PaymentStatus.DONE, 3400);
+        PaymentLedger canceled = ledger(2, PaymentStatus.PARTIAL_CANCELED, 1400);
+        when(jpaPaymentLedgerRepository.findTopByPaymentKeyOrderByIdDesc(PAYMENT_KEY))
+            .thenReturn(Optional.of(approved), Optional.of(canceled));
+        paymentLedgerRepository.findOneByPaymentKeyDesc(PAYMENT_KEY);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        paymentLedgerRepository.bulkUpsert(List.of(canceled));
+
+        // Then
+        Assertions.assertEquals(3400, paymentLedgerRepository.findOneByPaymentKeyDesc(PAYMENT_KEY).getBalanceAmount());
+        commit();
+        Assertions.assertNull(ledgerBalanceCache.getIfPresent(PAYMENT_KEY));
+        Assertions.assertEquals(1400, paymentLedgerRepository.findOneByPaymentKeyDesc(PAYMENT_KEY).getBalanceAmount());
+    }
+
+    @Test
+    @DisplayName("롤백된 bulkUpsert 는 캐시를 건드리지 않는다")
+    public void givenCachedLedger_whenBulkUpsertRolledBack_thenKeepsCache() {
+        // Given
+        PaymentLedger approved = ledger(1, PaymentStatus.DONE, 3400);
+        ledgerBalanceCache.put(PAYMENT_KEY, approved);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        paymentLedgerRepository.bulkUpsert(List.of(ledger(2, PaymentStatus.PARTIAL_CANCELED, 1400)));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        Assertions.assertSame(approved, ledgerBalanceCache.getIfPresent(PAYMENT_KEY));
+    }
+
+    @Test
+    @DisplayName("save 는 커밋 이후 id 가 더 큰 원장으로만 캐시를 교체한다")
+    public void givenCachedLedger_whenSaveCommitted_thenMergesByIdAfterCommit() {
+        // Given
+        PaymentLedger older = ledger(1, PaymentStatus.DONE, 3400);
+        PaymentLedger newer = ledger(3, PaymentStatus.PARTIAL_CANCELED, 400);
+        ledgerBalanceCache.put(PAYMENT_KEY, older);
+        when(jpaPaymentLedgerRepository.save(newer)).thenReturn(newer);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        paymentLedgerRepository.save(newer);
+
+        // Then
+        Assertions.assertSame(older, ledgerBalanceCache.getIfPresent(PAYMENT_KEY));
+        commit();
+        Assertions.assertSame(newer, ledgerBalanceCache.getIfPresent(PAYMENT_KEY));
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 이전 원장은 캐시의 최신 원장을 덮어쓰지 않는다")
+    public void givenNewerCachedLedger_whenOlderSaveCommitted_thenKeepsNewer() {
+        // Given
+        PaymentLedger older = ledger(2, PaymentStatus.PARTIAL_CANCELED, 1400);
+        PaymentLedger newer = ledger(3, PaymentStatus.PARTIAL_CANCELED, 400);
+        ledgerBalanceCache.put(PAYMENT_KEY, newer);
+        when(jpaPaymentLedgerRepository.save(older)).thenReturn(older);
+
+        // When
+        paymentLedgerRepository.save(older);
+
+        // Then
+        Assertions.assertSame(newer, ledgerBalanceCache.getIfPresent(PAYMENT_KEY));
+    }
+
+    @Test
+    @DisplayName("DB 에서 이전 원장을 읽는 중에 커밋된 무효화는 읽기가 끝난 뒤 적용되어 이전 잔액이 캐시에 남지 않는다")
+    public void givenLoadInProgress_whenInvalidatedConcurrently_thenNextReadIsFresh() throws Exception {
+        // Given
+        PaymentLedger approved = ledger(1, PaymentStatus.DONE, 3400);
+        PaymentLedger canceled = ledger(2, PaymentStatus.PARTIAL_CANCELED, 1400);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jpaPaymentLedgerRepository.findTopByPaymentKeyOrderByIdDesc(PAYMENT_KEY))
+            .thenAnswer(invocation -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(approved);
+            })
+            .thenReturn(Optional.of(canceled));
+
+        // When
+        CompletableFuture<PaymentLedger> staleRead =
+            CompletableFuture.supplyAsync(() -> paymentLedgerRepository.findOneByPaymentKeyDesc(PAYMENT_KEY));
+        Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> committedUpsert =
+            CompletableFuture.runAsync(() -> paymentLedgerRepository.bulkUpsert(List.of(canceled)));
+        release.countDown();
+        staleRead.get(5, TimeUnit.SECONDS);
+        committedUpsert.get(5, TimeUnit.SECONDS);
+
+        // Then
+        Assertions.assertEquals(1400, paymentLedgerRepository.findOneByPaymentKeyDesc(PAYMENT_KEY).getBalanceAmount());
+        Mockito.verify(jpaPaymentLedgerRepository, Mockito.times(2)).findTopByPaymentKeyOrderByIdDesc(PAYMENT_KEY);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static PaymentLedger ledger(int id, PaymentStatus status, int balanceAmount) {
+        return PaymentLedger.builder()
+            .id(id)
+            .paymentKey(PAYMENT_KEY)
+            .method(PaymentMethod.CARD)
+            .paymentStatus(status)
+            .totalAmount(3400)
+            .balanceAmount(balanceAmount)
+            .canceledAmount(3400 - balanceAmount)
+            .build();
+    }
+}